@@ -1,5 +1,7 @@
 package com.saiteja.portfolio_backend.config;
 
+import com.saiteja.portfolio_backend.service.ai.ResilientChatModel;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +11,7 @@ import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class AIModelConfig {
@@ -34,26 +37,49 @@ public class AIModelConfig {
     }
 
     @Bean("resumeChatModel")
-    public ChatModel resumeChatModel(OpenAiApi openAiApi) {
-        return OpenAiChatModel.builder()
-                .openAiApi(openAiApi)
-                .defaultOptions(
-                        OpenAiChatOptions.builder()
-                                .model("stepfun/step-3.5-flash:free")
-                                .temperature(0.2)
-                                .build()
-                )
-                .build();
+    public ChatModel resumeChatModel(OpenAiApi openAiApi,
+                                     ChatResilienceProperties resilience,
+                                     MeterRegistry meterRegistry) {
+        return resilient("resumeChatModel", openAiApi, 0.2, resilience, meterRegistry);
     }
 
     @Bean("recruiterChatModel")
-    public ChatModel recruiterChatModel(OpenAiApi openAiApi) {
+    public ChatModel recruiterChatModel(OpenAiApi openAiApi,
+                                        ChatResilienceProperties resilience,
+                                        MeterRegistry meterRegistry) {
+        return resilient("recruiterChatModel", openAiApi, 0.3, resilience, meterRegistry);
+    }
+
+    // each bean gets its own limits and breaker, so a slow resume parse cannot starve recruiter chat
+    private ChatModel resilient(String name, OpenAiApi openAiApi, double temperature,
+                                ChatResilienceProperties resilience, MeterRegistry meterRegistry) {
+
+        // the fallback takes the primary's overflow, so it needs its own limits and breaker too
+        ChatModel fallback = StringUtils.hasText(resilience.getFallbackModel())
+                ? new ResilientChatModel(
+                        name + "-fallback",
+                        openAiChatModel(openAiApi, resilience.getFallbackModel(), temperature),
+                        null,
+                        resilience,
+                        meterRegistry)
+                : null;
+
+        return new ResilientChatModel(
+                name,
+                openAiChatModel(openAiApi, "stepfun/step-3.5-flash:free", temperature),
+                fallback,
+                resilience,
+                meterRegistry
+        );
+    }
+
+    private ChatModel openAiChatModel(OpenAiApi openAiApi, String model, double temperature) {
         return OpenAiChatModel.builder()
                 .openAiApi(openAiApi)
                 .defaultOptions(
                         OpenAiChatOptions.builder()
-                                .model("stepfun/step-3.5-flash:free")
-                                .temperature(0.3)
+                                .model(model)
+                                .temperature(temperature)
                                 .build()
                 )
                 .build();
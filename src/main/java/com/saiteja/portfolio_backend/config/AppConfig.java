@@ -1,15 +1,28 @@
 package com.saiteja.portfolio_backend.config;
 
+import com.saiteja.portfolio_backend.security.CalibratedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.budget-ms:80}") long budgetMs,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${security.password.bcrypt.calibration-samples:5}") int samples
+    ) {
+
+        // a fixed strength skips calibration (useful for tests and pinned deployments)
+        if (strength > 0) {
+            return new CalibratedPasswordEncoder(strength);
+        }
+
+        return CalibratedPasswordEncoder.calibrate(budgetMs, minStrength, maxStrength, samples);
     }
 }
@@ -0,0 +1,41 @@
+package com.saiteja.portfolio_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.resilience")
+public class ChatResilienceProperties {
+
+    // concurrent calls allowed per chat model bean
+    private int maxConcurrent = 8;
+
+    // callers allowed to wait for a free slot; beyond this they are rejected at once
+    private int maxQueued = 16;
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    // deadline for a blocking call; streams fail after this long without a chunk
+    private Duration callTimeout = Duration.ofSeconds(60);
+    private Duration streamIdleTimeout = Duration.ofSeconds(30);
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    // optional model on the same provider used while the primary is rejected or failing
+    private String fallbackModel;
+
+    @Data
+    public static class CircuitBreaker {
+
+        // outcomes of the last N calls decide whether the circuit opens
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+
+        // after this long one probe call is let through (half-open)
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
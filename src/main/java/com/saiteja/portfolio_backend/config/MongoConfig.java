@@ -0,0 +1,22 @@
+package com.saiteja.portfolio_backend.config;
+
+import com.saiteja.portfolio_backend.model.EmbeddingVectorConverters;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioDataConverters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        List<Converter<?, ?>> converters = new ArrayList<>(PortfolioDataConverters.all());
+        converters.addAll(EmbeddingVectorConverters.all());
+        return new MongoCustomConversions(converters);
+    }
+}
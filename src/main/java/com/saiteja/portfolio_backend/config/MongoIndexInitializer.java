@@ -0,0 +1,73 @@
+package com.saiteja.portfolio_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on {@code @Document} classes ({@code @Indexed},
+ * {@code @CompoundIndex}) once at startup, before the web server accepts requests, in place of
+ * Spring Data's global auto-index-creation. Each index is created on its own, so one conflict
+ * does not stop the rest.
+ *
+ * <p>Precondition: a unique index only builds when the existing data has no duplicates (e.g.
+ * {@code users.email}, {@code portfolios.userEmail}, {@code portfolios.publicSlug}). If it
+ * does, or an index exists with different options (such as a changed TTL), the conflict is
+ * logged and the app runs without that index until the data is cleaned up or the old index
+ * is dropped.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mongo.indexes.ensure-on-startup", havingValue = "true", matchIfMissing = true)
+public class MongoIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @PostConstruct
+    public void ensureIndexes() {
+
+        long startTime = System.currentTimeMillis();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        int ensured = 0;
+        int conflicts = 0;
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+
+            for (IndexDefinition index : resolver.resolveIndexFor(entity.getType())) {
+                try {
+                    indexOperations.ensureIndex(index);
+                    ensured++;
+                } catch (DataAccessException e) {
+                    conflicts++;
+                    logger.error("Index not created on collection: {} - Keys: {} - Options: {} - Error: {}",
+                        entity.getCollection(), index.getIndexKeys(), index.getIndexOptions(),
+                        e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        logger.info("Mongo indexes ensured - Indexes: {} - Conflicts: {} - Duration: {}ms",
+            ensured, conflicts, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,49 @@
+package com.saiteja.portfolio_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // number of independently locked bucket maps; rounded up to a power of two
+    private int stripes = 64;
+
+    // buckets untouched for this long are dropped by the cleanup sweep
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum Scope {
+        IP,
+        PRINCIPAL
+    }
+
+    @Data
+    public static class Rule {
+
+        private String name;
+
+        // Ant-style path pattern, e.g. /api/ai/parse-resume/**
+        private String pattern;
+
+        // optional HTTP method filter; empty matches every method
+        private String method;
+
+        // PRINCIPAL falls back to the client IP for anonymous requests
+        private Scope scope = Scope.IP;
+
+        private int capacity;
+        private int refillTokens;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.saiteja.portfolio_backend.config;
 
 import com.saiteja.portfolio_backend.security.JwtAuthenticationFilter;
+import com.saiteja.portfolio_backend.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -44,7 +46,11 @@ public class SecurityConfig {
                 )
 
                 .addFilterBefore(jwtAuthenticationFilter,
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+
+                // after JWT auth so per-principal limits can see the authenticated user
+                .addFilterAfter(rateLimitFilter,
+                        JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -63,11 +69,14 @@ public class SecurityConfig {
                 "GET",
                 "POST",
                 "PUT",
+                "PATCH",
                 "DELETE",
                 "OPTIONS"
         ));
 
         configuration.setAllowedHeaders(List.of("*"));
+        // the portfolio version, sent back by the editor in If-Match
+        configuration.setExposedHeaders(List.of("ETag"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
@@ -2,8 +2,10 @@ package com.saiteja.portfolio_backend.controller;
 
 import com.saiteja.portfolio_backend.service.AIService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -16,10 +18,19 @@ public class AIController {
 
     @PostMapping("/parse-resume")
     public ResponseEntity<Map<String, Object>> parseResume(
-            @RequestBody String resumeText
+            @RequestBody String resumeText,
+            @RequestParam(defaultValue = "false") boolean refresh
     ) {
         return ResponseEntity.ok(
-                aiService.parseResume(resumeText)
+                aiService.parseResume(resumeText, refresh)
         );
     }
+
+    @PostMapping(value = "/parse-resume/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter parseResumeStream(
+            @RequestBody String resumeText,
+            @RequestParam(defaultValue = "false") boolean refresh
+    ) {
+        return aiService.streamParseResume(resumeText, refresh);
+    }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.saiteja.portfolio_backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.saiteja.portfolio_backend.dto.PortfolioRevisionResponse;
 import com.saiteja.portfolio_backend.dto.UserPrincipal;
+import com.saiteja.portfolio_backend.exceptions.PreconditionFailedException;
 import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.service.PortfolioRevisionService;
 import com.saiteja.portfolio_backend.service.PortfolioService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,8 +29,11 @@ public class PortfolioController {
 
     private final PortfolioService portfolioService;
 
+    private final PortfolioRevisionService revisionService;
+
     @PostMapping
-    public Portfolio savePortfolio(@RequestBody Map<String, Object> data) {
+    public ResponseEntity<Portfolio> savePortfolio(@RequestBody PortfolioData data,
+                                   @RequestHeader(value = "If-Match", required = false) String ifMatch) {
 
         logger.info("Portfolio save request received");
 
@@ -35,11 +45,51 @@ public class PortfolioController {
 
         logger.info("Saving portfolio for user: {} - ID: {}", principal.getEmail(), principal.getUserId());
 
-        Portfolio portfolio = portfolioService.saveOrUpdatePortfolio(principal.getEmail(), principal.getUserId(), data);
+        Long expectedVersion = parseVersion(ifMatch);
+        Portfolio portfolio;
+
+        try {
+            portfolio = portfolioService.saveOrUpdatePortfolio(
+                    principal.getEmail(), principal.getUserId(), data, expectedVersion);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException(
+                    "Portfolio has changed since version " + expectedVersion + ", reload and retry");
+        }
 
         logger.info("Portfolio saved successfully for user: {}", principal.getEmail());
 
-        return portfolio;
+        return withETag(portfolio).body(portfolio);
+    }
+
+    @PatchMapping(consumes = "application/merge-patch+json")
+    public ResponseEntity<?> mergePatchPortfolio(@RequestBody JsonNode patch) {
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+
+        logger.info("Portfolio merge patch request received for user: {}", principal.getEmail());
+
+        Portfolio portfolio = portfolioService.mergePatchPortfolio(principal.getEmail(), principal.getUserId(), patch);
+
+        return withETag(portfolio).body(Map.of("message", "PORTFOLIO_UPDATED"));
+    }
+
+    @PatchMapping(consumes = "application/json-patch+json")
+    public ResponseEntity<?> jsonPatchPortfolio(@RequestBody JsonNode patch) {
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+
+        logger.info("Portfolio JSON patch request received for user: {}", principal.getEmail());
+
+        Portfolio portfolio = portfolioService.jsonPatchPortfolio(principal.getEmail(), principal.getUserId(), patch);
+
+        return withETag(portfolio).body(Map.of("message", "PORTFOLIO_UPDATED"));
     }
 
     @GetMapping
@@ -63,7 +113,7 @@ public class PortfolioController {
         }
 
         logger.debug("Portfolio retrieved successfully for user: {}", principal.getEmail());
-        return ResponseEntity.ok(portfolio);
+        return withETag(portfolio).body(portfolio);
     }
 
     @PostMapping("/publish")
@@ -89,5 +139,68 @@ public class PortfolioController {
         ));
     }
 
+    @GetMapping("/revisions")
+    public List<PortfolioRevisionResponse> listRevisions(@RequestParam(defaultValue = "50") int limit) {
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+
+        logger.debug("Listing portfolio revisions for user: {}", principal.getEmail());
+
+        return revisionService.listRevisions(principal.getEmail(), limit);
+    }
+
+    @GetMapping("/revisions/{version}")
+    public JsonNode getRevision(@PathVariable long version) {
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+
+        logger.debug("Materializing portfolio revision for user: {} - Version: {}", principal.getEmail(), version);
+
+        return revisionService.materialize(principal.getEmail(), version);
+    }
+
+    @PostMapping("/revisions/{version}/rollback")
+    public Portfolio rollback(@PathVariable long version) {
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+
+        logger.info("Portfolio rollback request for user: {} - Version: {}", principal.getEmail(), version);
+
+        return portfolioService.rollbackPortfolio(principal.getEmail(), principal.getUserId(), version);
+    }
+
+    // the ETag is the portfolio version, e.g. "3"; clients send it back in If-Match
+    private static ResponseEntity.BodyBuilder withETag(Portfolio portfolio) {
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (portfolio != null && portfolio.getVersion() != null) {
+            response.eTag("\"" + portfolio.getVersion() + "\"");
+        }
+
+        return response;
+    }
+
+    // If-Match carries the portfolio version the client last read, e.g. "3"
+    private Long parseVersion(String ifMatch) {
 
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String value = ifMatch.trim().replaceFirst("^W/", "").replace("\"", "");
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring non-numeric If-Match header: {}", ifMatch);
+            return null;
+        }
+    }
 }
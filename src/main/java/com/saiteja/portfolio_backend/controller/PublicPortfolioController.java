@@ -1,30 +1,91 @@
 package com.saiteja.portfolio_backend.controller;
 
-import com.saiteja.portfolio_backend.exceptions.PortfolioNotFoundException;
-import com.saiteja.portfolio_backend.model.Portfolio;
-import com.saiteja.portfolio_backend.repository.PortfolioRepository;
+import com.saiteja.portfolio_backend.service.PublicPortfolioCache;
+import com.saiteja.portfolio_backend.service.PublicPortfolioCache.PublicPortfolio;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/public")
 @RequiredArgsConstructor
 public class PublicPortfolioController {
 
-    private final PortfolioRepository portfolioRepository;
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final PublicPortfolioCache publicPortfolioCache;
 
     @GetMapping("/{slug}")
-    public ResponseEntity<?> getPublicPortfolio(@PathVariable String slug) {
+    public void getPublicPortfolio(@PathVariable String slug,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                   ServletWebRequest request,
+                                   HttpServletResponse response) throws IOException {
+
+        // Cache-Control: no-cache from the client only means "revalidate", which the validators below handle
+        PublicPortfolio page = publicPortfolioCache.get(slug);
+
+        boolean gzip = page.artifact().hasGzip() && acceptsGzip(acceptEncoding);
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        // sets 304 and the validators on the response when If-None-Match / If-Modified-Since match
+        if (request.checkNotModified(page.etag(gzip), page.lastModified().toEpochMilli())) {
+            return;
+        }
+
+        ByteBuffer body = (gzip ? page.artifact().gzip() : page.artifact().identity()).duplicate();
 
-        Portfolio portfolio = portfolioRepository
-                .findByPublicSlugAndPublishedTrue(slug)
-                .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found"));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLengthLong(body.remaining());
 
-        return ResponseEntity.ok(portfolio.getData());
+        // read from the mapped file: the payload is never buffered whole on the heap, though the
+        // stream channel still copies it through a small transfer buffer on its way out
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        response.flushBuffer();
     }
-}
 
+    private boolean acceptsGzip(String acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+
+            if (name.equals("gzip") || name.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim().replace(" ", "");
+                    if (param.equals("q=0") || param.matches("q=0\\.0*")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
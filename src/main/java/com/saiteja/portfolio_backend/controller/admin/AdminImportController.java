@@ -0,0 +1,47 @@
+package com.saiteja.portfolio_backend.controller.admin;
+
+import com.saiteja.portfolio_backend.service.PortfolioImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/admin/portfolios")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminImportController.class);
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PortfolioImportService importService;
+
+    /**
+     * Imports one portfolio per NDJSON line. The response is NDJSON too: progress after
+     * every batch, an error line per rejected record and a final summary.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importPortfolios(HttpServletRequest request,
+                                 HttpServletResponse response,
+                                 Authentication authentication) throws IOException {
+
+        String adminEmail = authentication != null ? authentication.getName() : "UNKNOWN";
+        logger.info("Portfolio import request from admin: {}", adminEmail);
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        importService.importNdjson(request.getInputStream(), response.getOutputStream(), adminEmail);
+    }
+}
@@ -1,6 +1,7 @@
 package com.saiteja.portfolio_backend.controller.auth;
 
 import com.saiteja.portfolio_backend.dto.*;
+import com.saiteja.portfolio_backend.exceptions.InvalidCredentialsException;
 import com.saiteja.portfolio_backend.model.User;
 import com.saiteja.portfolio_backend.service.auth.AuthService;
 import com.saiteja.portfolio_backend.service.auth.EmailService;
@@ -10,8 +11,12 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 
 @RestController
 @RequestMapping("/auth")
@@ -63,14 +68,9 @@ public class AuthController {
                 request.getOtp()
         );
 
-        String accessToken = jwtService.generateAccessToken(
-                user.getEmail(),
-                user.getRole()
-        );
+        String accessToken = jwtService.generateAccessToken(user);
 
-        String refreshToken = jwtService.generateRefreshToken(
-                user.getEmail()
-        );
+        String refreshToken = jwtService.generateRefreshToken(user);
 
         logger.info("OTP verification successful for email: {} - Role: {}",
             user.getEmail(), user.getRole());
@@ -85,4 +85,24 @@ public class AuthController {
         );
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout() {
+
+        Authentication authentication = SecurityContextHolder.getContext()
+                .getAuthentication();
+
+        if (authentication == null ||
+                !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            logger.warn("Logout endpoint called without an authenticated user");
+            throw new InvalidCredentialsException("Not authenticated");
+        }
+
+        logger.info("Logout endpoint called for email: {}", principal.getEmail());
+        authService.logout(principal);
+
+        return ResponseEntity.ok(Map.of(
+                "message", "USER_LOGOUT_SUCCESSFUL"
+        ));
+    }
+
 }
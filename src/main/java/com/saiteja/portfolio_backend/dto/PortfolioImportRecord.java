@@ -0,0 +1,13 @@
+package com.saiteja.portfolio_backend.dto;
+
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import lombok.Data;
+
+/**
+ * One line of an NDJSON portfolio import.
+ */
+@Data
+public class PortfolioImportRecord {
+    private String userEmail;
+    private PortfolioData data;
+}
@@ -0,0 +1,15 @@
+package com.saiteja.portfolio_backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class PortfolioRevisionResponse {
+
+    private long version;
+    private boolean snapshot;
+    private Instant createdAt;
+}
@@ -0,0 +1,27 @@
+package com.saiteja.portfolio_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private String subject;
+    private String userId;
+    private Long epoch;
+    private String role;
+    private String type;
+    private Date issuedAt;
+    private Date expiresAt;
+
+    public boolean hasIdentityClaims() {
+        return userId != null && epoch != null && role != null;
+    }
+
+    public long epochOrZero() {
+        return epoch != null ? epoch : 0L;
+    }
+}
@@ -1,8 +1,11 @@
 package com.saiteja.portfolio_backend.exceptions;
 
 import com.saiteja.portfolio_backend.dto.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.*;
 
 @ControllerAdvice
@@ -30,6 +33,64 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(ServiceBusyException ex) {
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("SERVICE_BUSY");
+        error.setErrorMessage(ex.getMessage());
+        error.setStatusCode(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatch(InvalidPatchException ex) {
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("INVALID_PATCH");
+        error.setErrorMessage(ex.getMessage());
+        error.setStatusCode(String.valueOf(HttpStatus.BAD_REQUEST.value()));
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    // If-Match named a version that is no longer current (RFC 9110 conditional request)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("PRECONDITION_FAILED");
+        error.setErrorMessage(ex.getMessage());
+        error.setStatusCode(String.valueOf(HttpStatus.PRECONDITION_FAILED.value()));
+
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(OptimisticLockingFailureException ex) {
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("VERSION_CONFLICT");
+        error.setErrorMessage(ex.getMessage());
+        error.setStatusCode(String.valueOf(HttpStatus.CONFLICT.value()));
+
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableRequest(HttpMessageNotReadableException ex) {
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("INVALID_REQUEST_BODY");
+        error.setErrorMessage(ex.getMostSpecificCause().getMessage());
+        error.setStatusCode(String.valueOf(HttpStatus.BAD_REQUEST.value()));
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
 
@@ -0,0 +1,8 @@
+package com.saiteja.portfolio_backend.exceptions;
+
+public class InvalidPatchException extends RuntimeException {
+
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
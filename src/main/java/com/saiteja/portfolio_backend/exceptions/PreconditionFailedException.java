@@ -0,0 +1,8 @@
+package com.saiteja.portfolio_backend.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.saiteja.portfolio_backend.exceptions;
+
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
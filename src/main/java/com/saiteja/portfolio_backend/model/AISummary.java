@@ -2,10 +2,11 @@ package com.saiteja.portfolio_backend.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.Map;
 
 @Data
@@ -17,12 +18,25 @@ public class AISummary {
 
     @Id
     private String id;
+
+    @Indexed(unique = true)
     private String userEmail;
     private String userId;
     private String model;
     private Map<String, Object> structuredSummary;
     private String embeddingText;
-    private List<Double> embedding;
+
+    // stored as a packed float32 binary vector, see EmbeddingVectorConverters
+    private float[] embedding;
+
+    // summaryHash of the portfolio content this summary was generated from
+    private String sourceHash;
+
+    // updatedAt of the portfolio the summary was generated from; guards against stale writes
+    private Instant sourceUpdatedAt;
     private Instant createdAt;
     private Instant updatedAt;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
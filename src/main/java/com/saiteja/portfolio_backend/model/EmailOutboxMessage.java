@@ -0,0 +1,57 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "email_outbox")
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutboxMessage {
+
+    public enum Status {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED
+    }
+
+    @Id
+    private String id;
+
+    private String toEmail;
+    private String subject;
+
+    // may hold a secret (the OTP); cleared as soon as the message is SENT or FAILED
+    private String html;
+
+    private Status status;
+    private int attempts;
+    private Instant nextAttemptAt;
+
+    // set while a dispatcher owns the message; an expired lease makes it claimable again
+    private String leaseOwner;
+    private Instant leaseUntil;
+
+    private String lastError;
+    private Instant createdAt;
+
+    // delivered and failed messages are kept for a week as a delivery record, then purged by Mongo
+    @Indexed(expireAfterSeconds = 7 * 24 * 60 * 60)
+    private Instant sentAt;
+
+    @Indexed(expireAfterSeconds = 7 * 24 * 60 * 60)
+    private Instant failedAt;
+
+    // not delivered after this (e.g. the OTP is no longer valid); Mongo purges a row still
+    // waiting at this time, and the field is cleared once the message is SENT or FAILED
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+}
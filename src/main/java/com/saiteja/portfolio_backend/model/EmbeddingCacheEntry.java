@@ -0,0 +1,27 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "embedding_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingCacheEntry {
+
+    // SHA-256 of the embedding model name and the normalized text, see EmbeddingCache
+    @Id
+    private String id;
+
+    // checked on read as well, so a key collision across models can never serve a foreign vector
+    private String model;
+    private float[] vector;
+
+    @Indexed(expireAfter = "30d")
+    private Instant createdAt;
+}
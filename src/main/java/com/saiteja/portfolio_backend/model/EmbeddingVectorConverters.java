@@ -0,0 +1,99 @@
+package com.saiteja.portfolio_backend.model;
+
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Stores {@code float[]} embeddings as BSON binary vectors (subtype 9, float32, little-endian),
+ * the packed format Atlas vector search reads natively. A 1536-dimension embedding is about
+ * 6 KB this way instead of an array of 1536 BSON doubles. Documents written before the switch
+ * still hold number arrays; those are read as well.
+ */
+public final class EmbeddingVectorConverters {
+
+    // BSON binary subtype 9 (vector); the driver in use predates a named constant for it
+    private static final byte VECTOR_SUBTYPE = 9;
+    private static final byte FLOAT32 = 0x27;
+    private static final int HEADER_BYTES = 2;
+
+    private EmbeddingVectorConverters() {
+    }
+
+    public static List<Converter<?, ?>> all() {
+        return List.of(new VectorWriter(), new VectorReader(), new LegacyVectorReader());
+    }
+
+    public static Binary toBinary(float[] vector) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + vector.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.put(FLOAT32);
+        buffer.put((byte) 0); // padding bits, always 0 for float32
+        buffer.asFloatBuffer().put(vector);
+
+        return new Binary(VECTOR_SUBTYPE, buffer.array());
+    }
+
+    public static float[] fromBinary(Binary binary) {
+
+        byte[] data = binary.getData();
+
+        if (binary.getType() != VECTOR_SUBTYPE || data.length < HEADER_BYTES || data[0] != FLOAT32) {
+            throw new IllegalArgumentException("Not a float32 binary vector");
+        }
+
+        float[] vector = new float[(data.length - HEADER_BYTES) / Float.BYTES];
+
+        ByteBuffer.wrap(data, HEADER_BYTES, data.length - HEADER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asFloatBuffer()
+                .get(vector);
+
+        return vector;
+    }
+
+    public static float[] fromNumbers(List<?> values) {
+
+        float[] vector = new float[values.size()];
+
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = ((Number) values.get(i)).floatValue();
+        }
+
+        return vector;
+    }
+
+    @WritingConverter
+    public static class VectorWriter implements Converter<float[], Binary> {
+
+        @Override
+        public Binary convert(float[] source) {
+            return toBinary(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class VectorReader implements Converter<Binary, float[]> {
+
+        @Override
+        public float[] convert(Binary source) {
+            return fromBinary(source);
+        }
+    }
+
+    @ReadingConverter
+    public static class LegacyVectorReader implements Converter<List<?>, float[]> {
+
+        @Override
+        public float[] convert(List<?> source) {
+            return fromNumbers(source);
+        }
+    }
+}
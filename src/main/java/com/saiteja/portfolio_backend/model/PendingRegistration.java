@@ -1,6 +1,7 @@
 package com.saiteja.portfolio_backend.model;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -13,9 +14,13 @@ import java.util.Date;
 public class PendingRegistration {
     @Id
     private String id;
+    @Indexed(unique = true)
     private String email;
     private String role;
     private String otpHash;
     private String passwordHash;
+    // TTL index: Mongo removes the document once expiryTime has passed
+    @Indexed(expireAfterSeconds = 0)
     private Date expiryTime;
+    private int attempts;
 }
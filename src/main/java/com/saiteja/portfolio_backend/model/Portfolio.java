@@ -1,11 +1,13 @@
 package com.saiteja.portfolio_backend.model;
 
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
-import java.util.Map;
 
 @Document(collection = "portfolios")
 @Data
@@ -16,13 +18,25 @@ public class Portfolio {
 
     @Id
     private String id;
+
+    @Indexed(unique = true)
     private String userEmail;
+
     private String userId;
-    private Map<String, Object> data;
+    private PortfolioData data;
     private boolean published;
+
+    // sparse: unpublished portfolios have no slug
+    @Indexed(unique = true, sparse = true)
     private String publicSlug;
+
+    // hash of the summary-relevant content, see PortfolioContentHasher
+    private String summaryHash;
     private Instant createdAt;
     private Instant updatedAt;
+
+    @Version
+    private Long version;
 }
 
 
@@ -0,0 +1,47 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One saved state of a portfolio's data. Most revisions hold only a JSON Patch against
+ * their base revision; every few revisions a full snapshot bounds how far back a read
+ * has to walk.
+ */
+@Document(collection = "portfolio_revisions")
+@CompoundIndex(name = "user_version", def = "{'userEmail': 1, 'version': -1}", unique = true)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioRevision {
+
+    @Id
+    private String id;
+
+    private String userEmail;
+
+    // portfolio version this revision captures
+    private long version;
+
+    // revision the patch applies to; null for snapshots
+    private Long baseVersion;
+
+    // number of patches between this revision and its snapshot
+    private int depth;
+
+    // stored as JSON text: portfolio keys may contain '.' or start with '$', which Mongo
+    // rejects as field names, and a patch only ever needs to be read back whole
+    private String snapshot;
+    private String patch;
+
+    private Instant createdAt;
+
+    public boolean isSnapshot() {
+        return snapshot != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "resume_parse_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeParseCacheEntry {
+
+    // SHA-256 of the system prompt, model name and normalized resume text, see ResumeParseCache
+    @Id
+    private String id;
+
+    // parsed portfolio JSON as returned to the client
+    private String result;
+    private Instant createdAt;
+
+    // TTL index: Mongo removes the entry once this time has passed
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+}
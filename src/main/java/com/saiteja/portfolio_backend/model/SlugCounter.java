@@ -0,0 +1,19 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Next free suffix for a base slug; the id is the base slug itself.
+ */
+@Document(collection = "slug_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlugCounter {
+
+    @Id
+    private String id;
+    private long seq;
+}
@@ -0,0 +1,49 @@
+package com.saiteja.portfolio_backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "summary_jobs")
+@CompoundIndex(name = "status_run_after", def = "{'status': 1, 'runAfter': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        FAILED
+    }
+
+    @Id
+    private String id;
+
+    // one job per user: repeated saves coalesce into the same document
+    @Indexed(unique = true)
+    private String userEmail;
+    private String userId;
+
+    private Status status;
+
+    // latest save that asked for a summary
+    private Instant requestedAt;
+
+    // start of the current debounce window; bounds how long autosaves can postpone a run
+    private Instant firstRequestedAt;
+
+    // earliest time a worker may pick the job up
+    private Instant runAfter;
+
+    private String leaseOwner;
+    private Instant leaseUntil;
+
+    private int attempts;
+    private String lastError;
+}
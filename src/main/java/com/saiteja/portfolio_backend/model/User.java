@@ -2,8 +2,11 @@ package com.saiteja.portfolio_backend.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Document(collection = "users")
 @Data
 @NoArgsConstructor
@@ -14,8 +17,16 @@ public class User {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     private String email;
     private String password;
 
     private String role; // DEVELOPER or RECRUITER
+
+    // bumped on logout / role change; tokens carrying an older epoch are rejected
+    private long tokenEpoch;
+
+    // server time of the last bump, read incrementally by TokenEpochRegistry
+    @Indexed(sparse = true)
+    private Instant tokenEpochUpdatedAt;
 }
@@ -0,0 +1,20 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Achievements extends SchemaNode {
+
+    private String type;
+    private String title;
+    private String org;
+    private String image;
+    private String description;
+    private List<Object> items;
+}
@@ -0,0 +1,15 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Contact extends SchemaNode {
+
+    private String type;
+    private String value;
+    private String label;
+}
@@ -0,0 +1,19 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Education extends SchemaNode {
+
+    private String institution;
+    private String location;
+    private String degree;
+    private String dates;
+    private List<String> desc;
+}
@@ -0,0 +1,20 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Experience extends SchemaNode {
+
+    private String company;
+    private String role;
+    private String logo;
+    private String dates;
+    private String url;
+    private List<String> description;
+}
@@ -0,0 +1,18 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Footer extends SchemaNode {
+
+    private String title;
+    private String subtitle;
+    private String email;
+    private List<Object> socials;
+}
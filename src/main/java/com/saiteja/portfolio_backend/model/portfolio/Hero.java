@@ -0,0 +1,19 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Hero extends SchemaNode {
+
+    private String name;
+    private List<String> roles;
+    private HeroIntro intro;
+    private String image;
+    private List<Contact> contacts;
+}
@@ -0,0 +1,18 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class HeroIntro extends SchemaNode {
+
+    private List<String> desc;
+    private String highlight;
+    private String suffix;
+    private String text;
+}
@@ -0,0 +1,38 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Typed form of the portfolio document the frontend edits, mirroring the schema in
+ * AIService's resume prompt. Shapes the frontend owns loosely (socials, coding profiles,
+ * achievement items) stay as plain JSON values. JSON binding is lenient like the Mongo read
+ * path: a field with an unexpected shape is kept in extras rather than rejected.
+ */
+@JsonDeserialize(using = PortfolioDataConverters.JsonReader.class)
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class PortfolioData extends SchemaNode {
+
+    private Hero hero;
+    private List<Object> socials;
+    private List<Experience> experience;
+    private List<Project> projects;
+    private Achievements achievements;
+    private List<Education> education;
+    private List<String> skills;
+    private Footer footer;
+    private String activeTemplate;
+    private String slug;
+
+    @JsonProperty("isPublished")
+    private Boolean isPublished;
+
+    private List<Object> codingProfiles;
+}
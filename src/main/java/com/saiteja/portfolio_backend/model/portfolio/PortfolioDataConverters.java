@@ -0,0 +1,502 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hand-written BSON mapping for {@link PortfolioData}, so documents decode straight into the
+ * schema types without reflection or an intermediate map tree. Reading is lenient: documents
+ * written before the typed schema may hold any shape, and a field whose stored type does not
+ * match is kept as an extra instead of failing the whole read. Request bodies bind through the
+ * same lenient reader (see {@link JsonReader}), so clients still sending old shapes are not
+ * rejected.
+ */
+public final class PortfolioDataConverters {
+
+    private static final TypeMismatch MISMATCH = new TypeMismatch();
+
+    private PortfolioDataConverters() {
+    }
+
+    public static List<Converter<?, ?>> all() {
+        return List.of(new PortfolioDataReader(), new PortfolioDataWriter());
+    }
+
+    /**
+     * Lenient read from any JSON-like map, e.g. a stored revision snapshot.
+     */
+    public static PortfolioData fromMap(Map<?, ?> source) {
+        return readData(source);
+    }
+
+    @ReadingConverter
+    public static class PortfolioDataReader implements Converter<Document, PortfolioData> {
+
+        @Override
+        public PortfolioData convert(Document source) {
+            return readData(source);
+        }
+    }
+
+    /**
+     * Jackson binding for request bodies and stored JSON. Mismatched shapes (e.g. skills sent
+     * as objects) land in extras and are written back unchanged, exactly as on the Mongo path.
+     */
+    public static class JsonReader extends StdDeserializer<PortfolioData> {
+
+        public JsonReader() {
+            super(PortfolioData.class);
+        }
+
+        @Override
+        public PortfolioData deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+            if (!parser.isExpectedStartObjectToken()) {
+                return (PortfolioData) context.handleUnexpectedToken(PortfolioData.class, parser);
+            }
+
+            return readData(context.readValue(parser, Map.class));
+        }
+    }
+
+    @WritingConverter
+    public static class PortfolioDataWriter implements Converter<PortfolioData, Document> {
+
+        @Override
+        public Document convert(PortfolioData source) {
+            return writeData(source);
+        }
+    }
+
+    // ---------------------------------------------------------------- reading
+
+    static PortfolioData readData(Map<?, ?> source) {
+
+        PortfolioData data = new PortfolioData();
+
+        readFields(source, data, (name, value) -> {
+            switch (name) {
+                case "hero" -> data.setHero(readHero(map(value)));
+                case "socials" -> data.setSocials(rawList(value));
+                case "experience" -> data.setExperience(list(value, v -> readExperience(map(v))));
+                case "projects" -> data.setProjects(list(value, v -> readProject(map(v))));
+                case "achievements" -> data.setAchievements(readAchievements(map(value)));
+                case "education" -> data.setEducation(list(value, v -> readEducation(map(v))));
+                case "skills" -> data.setSkills(list(value, PortfolioDataConverters::string));
+                case "footer" -> data.setFooter(readFooter(map(value)));
+                case "activeTemplate" -> data.setActiveTemplate(string(value));
+                case "slug" -> data.setSlug(string(value));
+                case "isPublished" -> data.setIsPublished(bool(value));
+                case "codingProfiles" -> data.setCodingProfiles(rawList(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return data;
+    }
+
+    private static Hero readHero(Map<?, ?> source) {
+
+        Hero hero = new Hero();
+
+        readFields(source, hero, (name, value) -> {
+            switch (name) {
+                case "name" -> hero.setName(string(value));
+                case "roles" -> hero.setRoles(list(value, PortfolioDataConverters::string));
+                case "intro" -> hero.setIntro(readIntro(map(value)));
+                case "image" -> hero.setImage(string(value));
+                case "contacts" -> hero.setContacts(list(value, v -> readContact(map(v))));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return hero;
+    }
+
+    private static HeroIntro readIntro(Map<?, ?> source) {
+
+        HeroIntro intro = new HeroIntro();
+
+        readFields(source, intro, (name, value) -> {
+            switch (name) {
+                case "desc" -> intro.setDesc(list(value, PortfolioDataConverters::string));
+                case "highlight" -> intro.setHighlight(string(value));
+                case "suffix" -> intro.setSuffix(string(value));
+                case "text" -> intro.setText(string(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return intro;
+    }
+
+    private static Contact readContact(Map<?, ?> source) {
+
+        Contact contact = new Contact();
+
+        readFields(source, contact, (name, value) -> {
+            switch (name) {
+                case "type" -> contact.setType(string(value));
+                case "value" -> contact.setValue(string(value));
+                case "label" -> contact.setLabel(string(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return contact;
+    }
+
+    private static Experience readExperience(Map<?, ?> source) {
+
+        Experience experience = new Experience();
+
+        readFields(source, experience, (name, value) -> {
+            switch (name) {
+                case "company" -> experience.setCompany(string(value));
+                case "role" -> experience.setRole(string(value));
+                case "logo" -> experience.setLogo(string(value));
+                case "dates" -> experience.setDates(string(value));
+                case "url" -> experience.setUrl(string(value));
+                case "description" -> experience.setDescription(list(value, PortfolioDataConverters::string));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return experience;
+    }
+
+    private static Project readProject(Map<?, ?> source) {
+
+        Project project = new Project();
+
+        readFields(source, project, (name, value) -> {
+            switch (name) {
+                case "name" -> project.setName(string(value));
+                case "desc" -> project.setDesc(list(value, PortfolioDataConverters::string));
+                case "url" -> project.setUrl(string(value));
+                case "image" -> project.setImage(string(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return project;
+    }
+
+    private static Achievements readAchievements(Map<?, ?> source) {
+
+        Achievements achievements = new Achievements();
+
+        readFields(source, achievements, (name, value) -> {
+            switch (name) {
+                case "type" -> achievements.setType(string(value));
+                case "title" -> achievements.setTitle(string(value));
+                case "org" -> achievements.setOrg(string(value));
+                case "image" -> achievements.setImage(string(value));
+                case "description" -> achievements.setDescription(string(value));
+                case "items" -> achievements.setItems(rawList(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return achievements;
+    }
+
+    private static Education readEducation(Map<?, ?> source) {
+
+        Education education = new Education();
+
+        readFields(source, education, (name, value) -> {
+            switch (name) {
+                case "institution" -> education.setInstitution(string(value));
+                case "location" -> education.setLocation(string(value));
+                case "degree" -> education.setDegree(string(value));
+                case "dates" -> education.setDates(string(value));
+                case "desc" -> education.setDesc(list(value, PortfolioDataConverters::string));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return education;
+    }
+
+    private static Footer readFooter(Map<?, ?> source) {
+
+        Footer footer = new Footer();
+
+        readFields(source, footer, (name, value) -> {
+            switch (name) {
+                case "title" -> footer.setTitle(string(value));
+                case "subtitle" -> footer.setSubtitle(string(value));
+                case "email" -> footer.setEmail(string(value));
+                case "socials" -> footer.setSocials(rawList(value));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return footer;
+    }
+
+    private static void readFields(Map<?, ?> source, SchemaNode target, FieldBinder binder) {
+
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+
+            String name = String.valueOf(entry.getKey());
+            Object value = entry.getValue();
+
+            if (value == null) {
+                target.putExtra(name, null);
+                continue;
+            }
+
+            try {
+                if (!binder.bind(name, value)) {
+                    target.putExtra(name, value);
+                }
+            } catch (TypeMismatch e) {
+                target.putExtra(name, value);
+            }
+        }
+    }
+
+    private static Map<?, ?> map(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map;
+        }
+        throw MISMATCH;
+    }
+
+    private static String string(Object value) {
+        if (value instanceof String string) {
+            return string;
+        }
+        throw MISMATCH;
+    }
+
+    private static Boolean bool(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw MISMATCH;
+    }
+
+    private static <T> List<T> list(Object value, Function<Object, T> element) {
+
+        if (!(value instanceof List<?> source)) {
+            throw MISMATCH;
+        }
+
+        List<T> result = new ArrayList<>(source.size());
+        for (Object item : source) {
+            result.add(element.apply(item));
+        }
+
+        return result;
+    }
+
+    private static List<Object> rawList(Object value) {
+        if (value instanceof List<?> source) {
+            return new ArrayList<>(source);
+        }
+        throw MISMATCH;
+    }
+
+    // ---------------------------------------------------------------- writing
+
+    static Document writeData(PortfolioData data) {
+
+        Document document = new Document();
+
+        put(document, "hero", data.getHero(), PortfolioDataConverters::writeHero);
+        put(document, "socials", data.getSocials());
+        put(document, "experience", data.getExperience(), list -> writeList(list, PortfolioDataConverters::writeExperience));
+        put(document, "projects", data.getProjects(), list -> writeList(list, PortfolioDataConverters::writeProject));
+        put(document, "achievements", data.getAchievements(), PortfolioDataConverters::writeAchievements);
+        put(document, "education", data.getEducation(), list -> writeList(list, PortfolioDataConverters::writeEducation));
+        put(document, "skills", data.getSkills());
+        put(document, "footer", data.getFooter(), PortfolioDataConverters::writeFooter);
+        put(document, "activeTemplate", data.getActiveTemplate());
+        put(document, "slug", data.getSlug());
+        put(document, "isPublished", data.getIsPublished());
+        put(document, "codingProfiles", data.getCodingProfiles());
+
+        return withExtras(document, data);
+    }
+
+    private static Document writeHero(Hero hero) {
+
+        Document document = new Document();
+
+        put(document, "name", hero.getName());
+        put(document, "roles", hero.getRoles());
+        put(document, "intro", hero.getIntro(), PortfolioDataConverters::writeIntro);
+        put(document, "image", hero.getImage());
+        put(document, "contacts", hero.getContacts(), list -> writeList(list, PortfolioDataConverters::writeContact));
+
+        return withExtras(document, hero);
+    }
+
+    private static Document writeIntro(HeroIntro intro) {
+
+        Document document = new Document();
+
+        put(document, "desc", intro.getDesc());
+        put(document, "highlight", intro.getHighlight());
+        put(document, "suffix", intro.getSuffix());
+        put(document, "text", intro.getText());
+
+        return withExtras(document, intro);
+    }
+
+    private static Document writeContact(Contact contact) {
+
+        Document document = new Document();
+
+        put(document, "type", contact.getType());
+        put(document, "value", contact.getValue());
+        put(document, "label", contact.getLabel());
+
+        return withExtras(document, contact);
+    }
+
+    private static Document writeExperience(Experience experience) {
+
+        Document document = new Document();
+
+        put(document, "company", experience.getCompany());
+        put(document, "role", experience.getRole());
+        put(document, "logo", experience.getLogo());
+        put(document, "dates", experience.getDates());
+        put(document, "url", experience.getUrl());
+        put(document, "description", experience.getDescription());
+
+        return withExtras(document, experience);
+    }
+
+    private static Document writeProject(Project project) {
+
+        Document document = new Document();
+
+        put(document, "name", project.getName());
+        put(document, "desc", project.getDesc());
+        put(document, "url", project.getUrl());
+        put(document, "image", project.getImage());
+
+        return withExtras(document, project);
+    }
+
+    private static Document writeAchievements(Achievements achievements) {
+
+        Document document = new Document();
+
+        put(document, "type", achievements.getType());
+        put(document, "title", achievements.getTitle());
+        put(document, "org", achievements.getOrg());
+        put(document, "image", achievements.getImage());
+        put(document, "description", achievements.getDescription());
+        put(document, "items", achievements.getItems());
+
+        return withExtras(document, achievements);
+    }
+
+    private static Document writeEducation(Education education) {
+
+        Document document = new Document();
+
+        put(document, "institution", education.getInstitution());
+        put(document, "location", education.getLocation());
+        put(document, "degree", education.getDegree());
+        put(document, "dates", education.getDates());
+        put(document, "desc", education.getDesc());
+
+        return withExtras(document, education);
+    }
+
+    private static Document writeFooter(Footer footer) {
+
+        Document document = new Document();
+
+        put(document, "title", footer.getTitle());
+        put(document, "subtitle", footer.getSubtitle());
+        put(document, "email", footer.getEmail());
+        put(document, "socials", footer.getSocials());
+
+        return withExtras(document, footer);
+    }
+
+    private static void put(Document document, String name, Object value) {
+        if (value != null) {
+            document.put(name, value);
+        }
+    }
+
+    private static <T> void put(Document document, String name, T value, Function<T, Object> writer) {
+        if (value != null) {
+            document.put(name, writer.apply(value));
+        }
+    }
+
+    private static <T> List<Object> writeList(List<T> source, Function<T, Object> writer) {
+
+        List<Object> result = new ArrayList<>(source.size());
+        for (T item : source) {
+            result.add(item != null ? writer.apply(item) : null);
+        }
+
+        return result;
+    }
+
+    private static Document withExtras(Document document, SchemaNode node) {
+        node.getExtras().forEach(document::putIfAbsent);
+        return document;
+    }
+
+    @FunctionalInterface
+    private interface FieldBinder {
+        boolean bind(String name, Object value);
+    }
+
+    // thrown on the hot read path; shared and stackless so it costs nothing to raise
+    private static final class TypeMismatch extends RuntimeException {
+        TypeMismatch() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Project extends SchemaNode {
+
+    private String name;
+    private List<String> desc;
+    private String url;
+    private String image;
+}
@@ -0,0 +1,42 @@
+package com.saiteja.portfolio_backend.model.portfolio;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base of the portfolio schema types. Fields the schema does not model (or that arrive with
+ * an unexpected type in stored documents) are kept in extras and written back unchanged,
+ * so switching from the untyped map never drops data.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public abstract class SchemaNode {
+
+    private final Map<String, Object> extras = new LinkedHashMap<>();
+
+    @JsonAnyGetter
+    public Map<String, Object> getExtras() {
+        return extras;
+    }
+
+    @JsonAnySetter
+    public void putExtra(String name, Object value) {
+        extras.put(name, value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SchemaNode node
+                && getClass() == node.getClass()
+                && extras.equals(node.extras);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), extras);
+    }
+}
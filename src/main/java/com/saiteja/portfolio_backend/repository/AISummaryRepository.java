@@ -5,6 +5,9 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface AISummaryRepository extends MongoRepository<AISummary, String> {
+public interface AISummaryRepository extends MongoRepository<AISummary, String>, AISummaryRepositoryCustom {
+
     Optional<AISummary> findByUserEmail(String userEmail);
+
+    boolean existsByUserEmailAndSourceHash(String userEmail, String sourceHash);
 }
\ No newline at end of file
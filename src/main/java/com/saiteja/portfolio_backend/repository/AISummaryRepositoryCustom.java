@@ -0,0 +1,12 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.AISummary;
+
+public interface AISummaryRepositoryCustom {
+
+    /**
+     * Upserts the user's summary unless the stored one was built from newer portfolio content.
+     * Returns false when the write was discarded as stale.
+     */
+    boolean upsertIfNotStale(AISummary summary);
+}
@@ -0,0 +1,64 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.AISummary;
+import com.saiteja.portfolio_backend.model.EmbeddingVectorConverters;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class AISummaryRepositoryImpl implements AISummaryRepositoryCustom {
+
+    private static final Logger logger = LoggerFactory.getLogger(AISummaryRepositoryImpl.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean upsertIfNotStale(AISummary summary) {
+
+        Instant now = Instant.now();
+
+        Criteria notNewer = new Criteria().orOperator(
+                Criteria.where("sourceUpdatedAt").is(null),
+                Criteria.where("sourceUpdatedAt").lte(summary.getSourceUpdatedAt())
+        );
+
+        Query query = Query.query(Criteria.where("userEmail").is(summary.getUserEmail()).andOperator(notNewer));
+
+        Update update = new Update()
+                .set("userId", summary.getUserId())
+                .set("model", summary.getModel())
+                .set("structuredSummary", summary.getStructuredSummary())
+                .set("embeddingText", summary.getEmbeddingText())
+                .set("embedding", summary.getEmbedding() != null
+                        ? EmbeddingVectorConverters.toBinary(summary.getEmbedding())
+                        : null)
+                .set("sourceHash", summary.getSourceHash())
+                .set("sourceUpdatedAt", summary.getSourceUpdatedAt())
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now)
+                .inc("version", 1);
+
+        try {
+            mongoTemplate.findAndModify(
+                    query,
+                    update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    AISummary.class
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            // the guard missed an existing summary of newer content, so the upsert tried to insert
+            logger.debug("AI summary upsert discarded as stale for email: {}", summary.getUserEmail());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.EmailOutboxMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface EmailOutboxRepository extends MongoRepository<EmailOutboxMessage, String> {
+
+    List<EmailOutboxMessage> findByLeaseOwner(String leaseOwner);
+}
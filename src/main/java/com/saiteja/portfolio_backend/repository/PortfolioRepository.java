@@ -7,7 +7,7 @@ import org.springframework.data.mongodb.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
-public interface PortfolioRepository extends MongoRepository<Portfolio, String> {
+public interface PortfolioRepository extends MongoRepository<Portfolio, String>, PortfolioRepositoryCustom {
 
     Optional<Portfolio> findByUserEmail(String userEmail);
 
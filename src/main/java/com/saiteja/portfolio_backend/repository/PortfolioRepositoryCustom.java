@@ -0,0 +1,26 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import org.springframework.data.mongodb.core.query.Update;
+
+public interface PortfolioRepositoryCustom {
+
+    /**
+     * Replaces the portfolio content for the user in one round trip, creating the document on
+     * first write. When expectedVersion is given the write only applies to that version.
+     */
+    Portfolio upsertContent(String userEmail, String userId, PortfolioData data, String summaryHash,
+                            Long expectedVersion);
+
+    /**
+     * Applies a partial update to the user's portfolio, creating it if missing.
+     */
+    Portfolio upsertFields(String userEmail, String userId, Update update);
+
+    /**
+     * Publishes the portfolio under the slug unless it is already published, in which case null
+     * is returned. A slug taken by another portfolio fails on the unique index.
+     */
+    Portfolio markPublished(String userEmail, String publicSlug);
+}
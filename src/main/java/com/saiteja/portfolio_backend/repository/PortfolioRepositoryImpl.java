@@ -0,0 +1,100 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class PortfolioRepositoryImpl implements PortfolioRepositoryCustom {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioRepositoryImpl.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Portfolio upsertContent(String userEmail, String userId, PortfolioData data, String summaryHash,
+                                   Long expectedVersion) {
+
+        Update update = new Update()
+                .set("data", data)
+                .set("summaryHash", summaryHash);
+
+        Criteria criteria = Criteria.where("userEmail").is(userEmail);
+
+        if (expectedVersion == null) {
+            return upsert(Query.query(criteria), withAudit(update, userId));
+        }
+
+        Portfolio updated = mongoTemplate.findAndModify(
+                Query.query(criteria.and("version").is(expectedVersion)),
+                withAudit(update, userId),
+                FindAndModifyOptions.options().returnNew(true),
+                Portfolio.class
+        );
+
+        if (updated == null) {
+            logger.warn("Portfolio version conflict for email: {} - Expected version: {}", userEmail, expectedVersion);
+            throw new OptimisticLockingFailureException(
+                    "Portfolio was modified concurrently, expected version " + expectedVersion);
+        }
+
+        return updated;
+    }
+
+    @Override
+    public Portfolio upsertFields(String userEmail, String userId, Update update) {
+
+        return upsert(Query.query(Criteria.where("userEmail").is(userEmail)), withAudit(update, userId));
+    }
+
+    @Override
+    public Portfolio markPublished(String userEmail, String publicSlug) {
+
+        // only the first publish assigns a slug; null means it was already published
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("userEmail").is(userEmail).and("published").ne(true)),
+                new Update()
+                        .set("publicSlug", publicSlug)
+                        .set("published", true)
+                        .set("updatedAt", Instant.now())
+                        .inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Portfolio.class
+        );
+    }
+
+    private Update withAudit(Update update, String userId) {
+
+        Instant now = Instant.now();
+
+        return update
+                .set("userId", userId)
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now)
+                .inc("version", 1);
+    }
+
+    private Portfolio upsert(Query query, Update update) {
+
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+
+        try {
+            return mongoTemplate.findAndModify(query, update, options, Portfolio.class);
+        } catch (DuplicateKeyException e) {
+            // two first writes raced on insert; the loser now matches the winner's document
+            logger.debug("Portfolio upsert raced on insert, retrying as update");
+            return mongoTemplate.findAndModify(query, update, options, Portfolio.class);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.PortfolioRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PortfolioRevisionRepository extends MongoRepository<PortfolioRevision, String> {
+
+    Optional<PortfolioRevision> findByUserEmailAndVersion(String userEmail, long version);
+
+    Optional<PortfolioRevision> findFirstByUserEmailAndVersionLessThanOrderByVersionDesc(String userEmail, long version);
+
+    List<PortfolioRevision> findByUserEmailAndVersionLessThanEqualOrderByVersionDesc(String userEmail, long version,
+                                                                                    Pageable pageable);
+
+    @Query(value = "{ 'userEmail': ?0 }", fields = "{ 'snapshot': 0, 'patch': 0 }")
+    List<PortfolioRevision> findSummariesByUserEmail(String userEmail, Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.saiteja.portfolio_backend.model.SummaryJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface SummaryJobRepository extends MongoRepository<SummaryJob, String> {
+
+    long countByStatus(SummaryJob.Status status);
+
+    List<SummaryJob> findByLeaseOwner(String leaseOwner);
+}
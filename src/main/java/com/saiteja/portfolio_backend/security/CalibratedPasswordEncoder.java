@@ -0,0 +1,107 @@
+package com.saiteja.portfolio_backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder that remembers the cost it was created with and reports any stored
+ * hash with a different cost (higher or lower) as needing re-encoding.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private static final String CALIBRATION_INPUT = "calibration-password-0123456789";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+
+    public CalibratedPasswordEncoder(int strength) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Picks the largest cost between {@code minStrength} and {@code maxStrength} whose
+     * median encode time on this machine stays within {@code budgetMs}.
+     */
+    public static CalibratedPasswordEncoder calibrate(long budgetMs, int minStrength, int maxStrength, int samples) {
+
+        long startTime = System.currentTimeMillis();
+
+        // warm up the JIT so the first measured cost is not penalised
+        new BCryptPasswordEncoder(minStrength).encode(CALIBRATION_INPUT);
+
+        int chosen = minStrength;
+        long chosenMedian = -1;
+
+        for (int cost = minStrength; cost <= maxStrength; cost++) {
+
+            long median = medianEncodeMillis(cost, samples);
+            logger.debug("BCrypt calibration - Cost: {} - Median: {}ms", cost, median);
+
+            if (median > budgetMs) {
+                if (cost == minStrength) {
+                    chosenMedian = median;
+                }
+                break;
+            }
+
+            chosen = cost;
+            chosenMedian = median;
+        }
+
+        logger.info("BCrypt cost calibrated - Cost: {} - Median hash time: {}ms - Budget: {}ms - Calibration took: {}ms",
+            chosen, chosenMedian, budgetMs, System.currentTimeMillis() - startTime);
+
+        return new CalibratedPasswordEncoder(chosen);
+    }
+
+    private static long medianEncodeMillis(int cost, int samples) {
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long[] timings = new long[samples];
+
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_INPUT);
+            timings[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(timings);
+        return timings[samples / 2];
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -1,6 +1,7 @@
 package com.saiteja.portfolio_backend.security;
 
 import com.saiteja.portfolio_backend.dto.UserPrincipal;
+import com.saiteja.portfolio_backend.dto.VerifiedToken;
 import com.saiteja.portfolio_backend.model.User;
 import com.saiteja.portfolio_backend.repository.UserRepository;
 import com.saiteja.portfolio_backend.service.auth.JwtService;
@@ -8,9 +9,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,16 +21,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final boolean statelessAuth;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserRepository userRepository,
+                                   PrincipalCache principalCache,
+                                   TokenEpochRegistry tokenEpochRegistry,
+                                   @Value("${security.stateless-auth.enabled:false}") boolean statelessAuth) {
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.statelessAuth = statelessAuth;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -51,39 +65,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String token = authHeader.substring(7);
 
         try {
-            final String email = jwtService.extractEmail(token);
-            logger.debug("Extracted email from token: {} - Request: {}", email, requestPath);
-
-            if (email != null &&
-                    SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                var userOptional = userRepository.findByEmail(email);
-
-                if (userOptional.isPresent()) {
-                    if (jwtService.isTokenValid(token, email)) {
-                        logger.debug("JWT token validation successful for email: {} - Request: {}",
-                            email, requestPath);
-
-                        UsernamePasswordAuthenticationToken authToken =
-                                getUsernamePasswordAuthenticationToken(userOptional.get());
-
-                        authToken.setDetails(
-                                new WebAuthenticationDetailsSource()
-                                        .buildDetails(request)
-                        );
-
-                        SecurityContextHolder.getContext()
-                                .setAuthentication(authToken);
-
-                        logger.info("User authenticated successfully - Email: {} - Request: {} - Role: {}",
-                            email, requestPath, userOptional.get().getRole());
-                    } else {
-                        logger.warn("JWT token validation failed for email: {} - Request: {}",
-                            email, requestPath);
-                    }
-                } else {
-                    logger.warn("User not found for email: {} - Token extraction failed - Request: {}",
-                        email, requestPath);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                UserPrincipal principal = statelessAuth
+                        ? resolveFromClaims(token, requestPath)
+                        : resolveCached(token, requestPath);
+
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authToken =
+                            getUsernamePasswordAuthenticationToken(principal);
+
+                    authToken.setDetails(
+                            new WebAuthenticationDetailsSource()
+                                    .buildDetails(request)
+                    );
+
+                    SecurityContextHolder.getContext()
+                            .setAuthentication(authToken);
+
+                    logger.info("User authenticated successfully - Email: {} - Request: {} - Role: {}",
+                        principal.getEmail(), requestPath, principal.getRole());
                 }
             }
 
@@ -96,11 +97,70 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private static UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(User user) {
+    private UserPrincipal resolveFromClaims(String token, String requestPath) {
 
-        var authorities = List.of(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole())
+        final VerifiedToken verified = jwtService.verify(token);
+
+        if (!verified.hasIdentityClaims()) {
+            // token issued before claims-only mode was enabled
+            logger.debug("Token lacks identity claims, falling back to lookup - Request: {}", requestPath);
+            return resolveCached(token, requestPath);
+        }
+
+        if (!tokenEpochRegistry.isCurrent(verified.getUserId(), verified.getEpoch())) {
+            logger.warn("Revoked token presented for email: {} - Request: {}",
+                verified.getSubject(), requestPath);
+            return null;
+        }
+
+        return new UserPrincipal(
+                verified.getUserId(),
+                verified.getSubject(),
+                verified.getRole()
         );
+    }
+
+    private UserPrincipal resolveCached(String token, String requestPath) {
+
+        UserPrincipal principal = principalCache.get(token);
+
+        if (principal != null) {
+            logger.debug("Principal cache hit for email: {} - Request: {}",
+                principal.getEmail(), requestPath);
+            return principal;
+        }
+
+        return loadPrincipal(token, requestPath);
+    }
+
+    private UserPrincipal loadPrincipal(String token, String requestPath) {
+
+        final VerifiedToken verified = jwtService.verify(token);
+        final String email = verified.getSubject();
+        logger.debug("Extracted email from token: {} - Request: {}", email, requestPath);
+
+        if (email == null) {
+            return null;
+        }
+
+        var userOptional = userRepository.findByEmail(email);
+
+        if (userOptional.isEmpty()) {
+            logger.warn("User not found for email: {} - Token extraction failed - Request: {}",
+                email, requestPath);
+            return null;
+        }
+
+        logger.debug("JWT token validation successful for email: {} - Request: {}",
+            email, requestPath);
+
+        User user = userOptional.get();
+
+        if (verified.epochOrZero() < user.getTokenEpoch()) {
+            logger.warn("Revoked token presented for email: {} - Request: {}",
+                email, requestPath);
+            return null;
+        }
 
         UserPrincipal principal = new UserPrincipal(
                 user.getId(),
@@ -108,6 +168,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 user.getRole()
         );
 
+        principalCache.put(token, principal, verified.getExpiresAt());
+
+        return principal;
+    }
+
+    private static UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(UserPrincipal principal) {
+
+        var authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_" + principal.getRole())
+        );
+
         return new UsernamePasswordAuthenticationToken(
                 principal,
                 null,
@@ -0,0 +1,137 @@
+package com.saiteja.portfolio_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.saiteja.portfolio_backend.dto.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of authenticated principals keyed by a SHA-256 digest of the bearer token.
+ * Entries never outlive the token's own expiry.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final Counter invalidations;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principalCache");
+
+        this.invalidations = Counter.builder("principal.cache.invalidations")
+                .description("Principal cache entries removed because the user document changed")
+                .register(meterRegistry);
+
+        logger.debug("Principal cache initialized with max size: {}", maxSize);
+    }
+
+    public UserPrincipal get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(digest(token));
+        return cached != null ? cached.principal() : null;
+    }
+
+    public void put(String token, UserPrincipal principal, Date expiresAt) {
+
+        if (expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        cache.put(digest(token), new CachedPrincipal(principal, expiresAt.getTime()));
+    }
+
+    public void invalidateUser(String email) {
+
+        if (email == null) {
+            return;
+        }
+
+        int before = (int) cache.estimatedSize();
+        cache.asMap().values().removeIf(cached -> email.equals(cached.principal().getEmail()));
+        recordInvalidation(before);
+
+        logger.debug("Principal cache invalidated for email: {}", email);
+    }
+
+    public void invalidateUserId(String userId) {
+
+        if (userId == null) {
+            return;
+        }
+
+        int before = (int) cache.estimatedSize();
+        cache.asMap().values().removeIf(cached -> userId.equals(cached.principal().getUserId()));
+        recordInvalidation(before);
+
+        logger.debug("Principal cache invalidated for userId: {}", userId);
+    }
+
+    public void invalidateAll() {
+        int before = (int) cache.estimatedSize();
+        cache.invalidateAll();
+        recordInvalidation(before);
+        logger.debug("Principal cache cleared");
+    }
+
+    private void recordInvalidation(int sizeBefore) {
+        long removed = sizeBefore - cache.estimatedSize();
+        if (removed > 0) {
+            invalidations.increment(removed);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
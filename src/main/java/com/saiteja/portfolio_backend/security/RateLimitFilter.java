@@ -0,0 +1,157 @@
+package com.saiteja.portfolio_backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiteja.portfolio_backend.config.RateLimitProperties;
+import com.saiteja.portfolio_backend.dto.ErrorResponse;
+import com.saiteja.portfolio_backend.dto.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final StripedTokenBuckets buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buckets = new StripedTokenBuckets(properties.getStripes());
+
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            allowedCounters.put(rule.getName(), Counter.builder("rate_limit.requests")
+                    .tag("rule", rule.getName())
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(rule.getName(), Counter.builder("rate_limit.requests")
+                    .tag("rule", rule.getName())
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("rate_limit.buckets", buckets, StripedTokenBuckets::size)
+                .description("Token buckets currently tracked")
+                .register(meterRegistry);
+
+        logger.info("Rate limiting initialized - Enabled: {} - Rules: {}",
+            properties.isEnabled(), properties.getRules().size());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI();
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+
+        for (RateLimitProperties.Rule rule : rules) {
+
+            if (!matches(rule, request, path)) {
+                continue;
+            }
+
+            String key = rule.getName() + "|" + clientKey(rule, request);
+            long waitNanos = buckets.tryAcquire(
+                    key,
+                    rule.getCapacity(),
+                    rule.getRefillTokens(),
+                    rule.getRefillPeriod().toNanos()
+            );
+
+            if (waitNanos > 0) {
+                rejectedCounters.get(rule.getName()).increment();
+                logger.warn("Rate limit exceeded - Rule: {} - Key: {} - Request: {}", rule.getName(), key, path);
+                reject(response, waitNanos);
+                return;
+            }
+
+            allowedCounters.get(rule.getName()).increment();
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = buckets.evictIdle(properties.getIdleTimeout().toNanos());
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, HttpServletRequest request, String path) {
+
+        if (rule.getMethod() != null && !rule.getMethod().isBlank()
+                && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+
+        return pathMatcher.match(rule.getPattern(), path);
+    }
+
+    private static String clientKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+
+        if (rule.getScope() == RateLimitProperties.Scope.PRINCIPAL) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return "user:" + principal.getUserId();
+            }
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+        ErrorResponse error = new ErrorResponse();
+        error.setErrorCode("TOO_MANY_REQUESTS");
+        error.setErrorMessage("Rate limit exceeded. Please retry later.");
+        error.setStatusCode(String.valueOf(HttpStatus.TOO_MANY_REQUESTS.value()));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,126 @@
+package com.saiteja.portfolio_backend.security;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token buckets spread over a fixed number of lock-guarded stripes. Requests for
+ * different keys rarely contend, and idle buckets can be swept one stripe at a time.
+ */
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public StripedTokenBuckets(int stripeCount) {
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return 0 when the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, int capacity, int refillTokens, long refillPeriodNanos) {
+
+        long now = System.nanoTime();
+        double tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.lastRefillNanos) * tokensPerNano);
+                bucket.lastRefillNanos = now;
+            }
+
+            bucket.lastSeenNanos = now;
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int evictIdle(long idleNanos) {
+
+        long cutoff = System.nanoTime() - idleNanos;
+        int evicted = 0;
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Map.Entry<String, Bucket>> iterator = stripe.buckets.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().getValue().lastSeenNanos - cutoff < 0) {
+                        iterator.remove();
+                        evicted++;
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return evicted;
+    }
+
+    public int size() {
+
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastSeenNanos;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+            this.lastSeenNanos = now;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.saiteja.portfolio_backend.security;
+
+import com.saiteja.portfolio_backend.model.User;
+import com.saiteja.portfolio_backend.service.auth.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of recent token epoch bumps. Every bump stamps {@code tokenEpochUpdatedAt}
+ * (server time), and the refresh only reads bumps newer than the last one it saw, through the
+ * index on that field. An entry is dropped once every access token issued before its bump has
+ * expired, so the table only holds users who revoked within the last access-token lifetime.
+ * Epochs only grow, which lets local bumps and background refreshes be merged with max().
+ *
+ * <p>The table is loaded at startup only for claims-only auth ({@code security.stateless-auth.enabled}).
+ * The incremental poll runs in both modes, because it is also what drops principals cached on
+ * this instance for a user who logged out on another one.
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochRegistry.class);
+
+    // older bumps can no longer affect a live access token; the extra minute covers clock skew
+    private static final Duration RETENTION = JwtService.ACCESS_TOKEN_TTL.plusMinutes(1);
+
+    // re-read a few seconds before the last seen bump, for writes that committed out of order
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final PrincipalCache principalCache;
+    private final boolean statelessAuth;
+
+    private final Map<String, Epoch> epochs = new ConcurrentHashMap<>();
+
+    private volatile Instant lastSeen;
+
+    public TokenEpochRegistry(MongoTemplate mongoTemplate,
+                              PrincipalCache principalCache,
+                              @Value("${security.stateless-auth.enabled:false}") boolean statelessAuth) {
+        this.mongoTemplate = mongoTemplate;
+        this.principalCache = principalCache;
+        this.statelessAuth = statelessAuth;
+    }
+
+    public boolean isCurrent(String userId, long tokenEpoch) {
+        Epoch epoch = epochs.get(userId);
+        return epoch == null || tokenEpoch >= epoch.value();
+    }
+
+    public long bump(String userId) {
+
+        User updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(userId)),
+                new Update().inc("tokenEpoch", 1).currentDate("tokenEpochUpdatedAt"),
+                FindAndModifyOptions.options().returnNew(true),
+                User.class
+        );
+
+        if (updated == null) {
+            logger.warn("Token epoch bump requested for unknown userId: {}", userId);
+            return 0L;
+        }
+
+        record(userId, updated.getTokenEpoch(), updated.getTokenEpochUpdatedAt());
+        principalCache.invalidateUserId(userId);
+
+        logger.info("Token epoch bumped for userId: {} - Epoch: {}", userId, updated.getTokenEpoch());
+        return updated.getTokenEpoch();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (statelessAuth) {
+            refresh();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.stateless-auth.epoch-refresh-ms:30000}",
+            fixedDelayString = "${security.stateless-auth.epoch-refresh-ms:30000}"
+    )
+    public void refresh() {
+
+        try {
+            Instant horizon = Instant.now().minus(RETENTION);
+            Instant since = lastSeen != null && lastSeen.minus(OVERLAP).isAfter(horizon)
+                    ? lastSeen.minus(OVERLAP)
+                    : horizon;
+
+            Query query = Query.query(Criteria.where("tokenEpochUpdatedAt").gt(since));
+            query.fields().include("tokenEpoch").include("tokenEpochUpdatedAt");
+
+            List<User> users = mongoTemplate.find(query, User.class);
+
+            for (User user : users) {
+                Epoch previous = epochs.get(user.getId());
+                record(user.getId(), user.getTokenEpoch(), user.getTokenEpochUpdatedAt());
+
+                // revoked on another instance: drop anything this instance cached for the user
+                if (previous == null || previous.value() < user.getTokenEpoch()) {
+                    principalCache.invalidateUserId(user.getId());
+                }
+
+                if (lastSeen == null || user.getTokenEpochUpdatedAt().isAfter(lastSeen)) {
+                    lastSeen = user.getTokenEpochUpdatedAt();
+                }
+            }
+
+            epochs.values().removeIf(epoch -> epoch.updatedAt().isBefore(horizon));
+
+            logger.debug("Token epoch table refreshed - Read: {} - Entries: {}", users.size(), epochs.size());
+
+        } catch (Exception e) {
+            logger.error("Failed to refresh token epoch table - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void record(String userId, long epoch, Instant updatedAt) {
+        Instant stamp = updatedAt != null ? updatedAt : Instant.now();
+        epochs.merge(userId, new Epoch(epoch, stamp), (current, next) -> next.value() > current.value() ? next : current);
+    }
+
+    private record Epoch(long value, Instant updatedAt) {
+    }
+}
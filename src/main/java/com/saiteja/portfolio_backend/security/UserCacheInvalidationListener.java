@@ -0,0 +1,35 @@
+package com.saiteja.portfolio_backend.security;
+
+import com.saiteja.portfolio_backend.model.User;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener extends AbstractMongoEventListener<User> {
+
+    private final PrincipalCache principalCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        principalCache.invalidateUser(event.getSource().getEmail());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+
+        Document query = event.getSource();
+        Object id = query.get("_id");
+
+        if (id instanceof String || id instanceof ObjectId) {
+            principalCache.invalidateUserId(id.toString());
+        } else {
+            principalCache.invalidateAll();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.saiteja.portfolio_backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiteja.portfolio_backend.exceptions.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,10 +9,17 @@ import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -19,22 +27,36 @@ public class AIService {
 
     private static final Logger logger = LoggerFactory.getLogger(AIService.class);
 
+    // top-level sections the prompt requires; a result missing any of them is served but not cached
+    private static final List<String> REQUIRED_SECTIONS = List.of(
+            "hero", "socials", "experience", "projects", "achievements", "education", "skills", "footer");
+
     private final ChatModel recruiterChatModel;
     private final ObjectMapper objectMapper;
+    private final ResumeParseCache resumeParseCache;
+
+    @Value("${ai.resume-stream.timeout-ms:120000}")
+    private long streamTimeoutMs;
 
-    public Map<String, Object> parseResume(String resumeText) {
+    /**
+     * @param refresh skip a cached result and parse again, replacing the cached copy
+     */
+    public Map<String, Object> parseResume(String resumeText, boolean refresh) {
 
         long startTime = System.currentTimeMillis();
-        logger.info("AI resume parsing started");
+        logger.info("AI resume parsing started - Refresh: {}", refresh);
 
-        try {
+        String cacheKey = cacheKey(resumeText);
+        Map<String, Object> cached = refresh ? null : resumeParseCache.get(cacheKey);
+
+        if (cached != null) {
+            logger.info("AI resume parsing served from cache in {}ms", System.currentTimeMillis() - startTime);
+            return cached;
+        }
 
-            Prompt prompt = new Prompt(List.of(
-                    new SystemMessage(getSystemPrompt()),
-                    new UserMessage(resumeText)
-            ));
+        try {
 
-            String response = recruiterChatModel.call(prompt)
+            String response = recruiterChatModel.call(buildPrompt(resumeText))
                     .getResult()
                     .getOutput()
                     .getText();
@@ -47,17 +69,143 @@ public class AIService {
             Map<String, Object> result =
                     objectMapper.readValue(response, Map.class);
 
+            cacheIfComplete(cacheKey, result);
+
             long duration = System.currentTimeMillis() - startTime;
             logger.info("AI resume parsing completed in {}ms", duration);
 
             return result;
 
+        } catch (ServiceBusyException e) {
+            logger.warn("AI resume parsing rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("AI resume parsing failed: {}", e.getMessage(), e);
             throw new RuntimeException("AI resume parsing failed");
         }
     }
 
+    /**
+     * Streams the completion and sends each top-level section as an SSE "section" event as
+     * soon as it is complete, followed by "done" with the whole result or "error".
+     */
+    public SseEmitter streamParseResume(String resumeText, boolean refresh) {
+
+        long startTime = System.currentTimeMillis();
+        logger.info("AI resume stream parsing started - Refresh: {}", refresh);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        String cacheKey = cacheKey(resumeText);
+        Map<String, Object> cached = refresh ? null : resumeParseCache.get(cacheKey);
+
+        if (cached != null) {
+            cached.forEach((name, value) -> sendSection(emitter, name, value));
+            send(emitter, "done", cached);
+            emitter.complete();
+            logger.info("AI resume stream parsing served from cache in {}ms", System.currentTimeMillis() - startTime);
+            return emitter;
+        }
+
+        AtomicBoolean firstSection = new AtomicBoolean(true);
+
+        ResumeSectionParser parser;
+        try {
+            parser = new ResumeSectionParser(objectMapper, (name, value) -> {
+                if (firstSection.compareAndSet(true, false)) {
+                    logger.info("AI resume stream first section '{}' after {}ms",
+                        name, System.currentTimeMillis() - startTime);
+                }
+                sendSection(emitter, name, value);
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("AI resume parsing failed", e);
+        }
+
+        Disposable subscription = recruiterChatModel.stream(buildPrompt(resumeText))
+                .subscribe(
+                        response -> {
+                            if (response.getResult() == null || response.getResult().getOutput() == null) {
+                                return;
+                            }
+                            try {
+                                parser.feed(response.getResult().getOutput().getText());
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        error -> {
+                            logger.error("AI resume stream parsing failed after {}ms: {}",
+                                System.currentTimeMillis() - startTime, error.getMessage());
+                            send(emitter, "error", Map.of("message", "AI resume parsing failed"));
+                            emitter.complete();
+                        },
+                        () -> {
+                            try {
+                                Map<String, Object> result = parser.finish();
+                                cacheIfComplete(cacheKey, result);
+                                send(emitter, "done", result);
+                                logger.info("AI resume stream parsing completed in {}ms",
+                                    System.currentTimeMillis() - startTime);
+                            } catch (IOException e) {
+                                logger.error("AI resume stream parsing failed: {}", e.getMessage());
+                                send(emitter, "error", Map.of("message", "AI resume parsing failed"));
+                            }
+                            emitter.complete();
+                        }
+                );
+
+        // client went away or timed out: stop paying for the rest of the completion
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+
+        return emitter;
+    }
+
+    // a truncated or off-schema answer would otherwise be replayed for a day
+    private void cacheIfComplete(String cacheKey, Map<String, Object> result) {
+
+        List<String> missing = REQUIRED_SECTIONS.stream()
+                .filter(section -> result.get(section) == null)
+                .toList();
+
+        if (missing.isEmpty()) {
+            resumeParseCache.put(cacheKey, result);
+        } else {
+            logger.warn("AI resume parse result not cached, missing sections: {}", missing);
+        }
+    }
+
+    private void sendSection(SseEmitter emitter, String name, Object value) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("section", name);
+        section.put("data", value);
+        send(emitter, "section", section);
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("AI resume stream client disconnected: {}", e.getMessage());
+        }
+    }
+
+    private String cacheKey(String resumeText) {
+        String model = recruiterChatModel.getDefaultOptions() != null
+                ? recruiterChatModel.getDefaultOptions().getModel()
+                : null;
+        return resumeParseCache.key(getSystemPrompt(), model, resumeText);
+    }
+
+    private Prompt buildPrompt(String resumeText) {
+        return new Prompt(List.of(
+                new SystemMessage(getSystemPrompt()),
+                new UserMessage(resumeText)
+        ));
+    }
+
     private String getSystemPrompt() {
         return """
             You are a resume-to-portfolio transformer.
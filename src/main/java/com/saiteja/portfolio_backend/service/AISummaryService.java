@@ -4,19 +4,16 @@ package com.saiteja.portfolio_backend.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.saiteja.portfolio_backend.model.AISummary;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
 import com.saiteja.portfolio_backend.repository.AISummaryRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.model.ChatModel;
-import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -27,18 +24,21 @@ public class AISummaryService {
     private static final Logger logger = LoggerFactory.getLogger(AISummaryService.class);
 
     private final ChatModel recruiterChatModel;
-    private final EmbeddingModel embeddingModel;
+    private final EmbeddingCache embeddingCache;
     private final AISummaryRepository aiSummaryRepository;
     private final ObjectMapper objectMapper;
 
     @Value("${spring.ai.openai.chat.options.model}")
     private String modelName;
 
-    @Async
-    public void generateAndSaveSummary(String userEmail, String userId, Map<String, Object> portfolioData) {
+    /**
+     * Asks the chat model for the structured summary and builds the text to embed. The
+     * embedding itself is requested separately so callers can batch it across users.
+     */
+    public SummaryDraft draftSummary(String userEmail, PortfolioData portfolioData) {
 
         long startTime = System.currentTimeMillis();
-        logger.info("AI Summary generation started for email: {} - userId: {}", userEmail, userId);
+        logger.info("AI Summary generation started for email: {}", userEmail);
 
         try {
 
@@ -111,32 +111,10 @@ public class AISummaryService {
             logger.debug("Embedding text built (length: {}) for email: {}",
                 embeddingText.length(), userEmail);
 
-            logger.debug("Generating embedding vector for email: {}", userEmail);
-            List<Double> embedding = generateEmbedding(embeddingText);
-            logger.debug("Embedding generated successfully (dimensions: {}) for email: {}",
-                embedding.size(), userEmail);
-
-            AISummary summary = aiSummaryRepository
-                    .findByUserEmail(userEmail)
-                    .orElse(
-                            AISummary.builder()
-                                    .userEmail(userEmail)
-                                    .model(modelName)
-                                    .createdAt(Instant.now())
-                                    .build()
-                    );
-
-            summary.setUserId(userId);
-            summary.setStructuredSummary(structuredJson);
-            summary.setUpdatedAt(Instant.now());
-            summary.setEmbeddingText(embeddingText);
-            summary.setEmbedding(embedding);
-
-            aiSummaryRepository.save(summary);
-
             long duration = System.currentTimeMillis() - startTime;
-            logger.info("AI Summary successfully generated and saved for email: {} - Duration: {}ms",
-                userEmail, duration);
+            logger.info("AI Summary drafted for email: {} - Duration: {}ms", userEmail, duration);
+
+            return new SummaryDraft(structuredJson, embeddingText);
 
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -146,6 +124,49 @@ public class AISummaryService {
         }
     }
 
+    /**
+     * Stores the summary. Returns false when a summary built from newer content was stored in
+     * the meantime and this result was dropped.
+     */
+    public boolean saveSummary(String userEmail, String userId, SummaryDraft draft, float[] embedding,
+                               String sourceHash, Instant sourceUpdatedAt) {
+
+        AISummary summary = AISummary.builder()
+                .userEmail(userEmail)
+                .userId(userId)
+                .model(modelName)
+                .structuredSummary(draft.structuredSummary())
+                .embeddingText(draft.embeddingText())
+                .embedding(embedding)
+                .sourceHash(sourceHash)
+                .sourceUpdatedAt(sourceUpdatedAt)
+                .build();
+
+        // never let a summary of older content overwrite one of newer content
+        if (!aiSummaryRepository.upsertIfNotStale(summary)) {
+            logger.info("Stale AI summary discarded for email: {} - Source updated at: {}",
+                userEmail, sourceUpdatedAt);
+            return false;
+        }
+
+        logger.info("AI Summary successfully saved for email: {}", userEmail);
+        return true;
+    }
+
+    /**
+     * Embeds all texts with a single multi-input request, preserving order.
+     */
+    public List<float[]> embedAll(List<String> texts) {
+
+        long startTime = System.currentTimeMillis();
+        logger.debug("Generating embeddings for {} texts", texts.size());
+
+        List<float[]> embeddings = embeddingCache.embedAll(texts);
+
+        logger.debug("Embedding batch completed - Texts: {} - Duration: {}ms",
+            texts.size(), System.currentTimeMillis() - startTime);
+        return embeddings;
+    }
 
     private String buildEmbeddingText(Map<String, Object> summary) {
 
@@ -176,20 +197,6 @@ public class AISummaryService {
         return sb.toString();
     }
 
-    private List<Double> generateEmbedding(String text) {
-
-        logger.debug("Generating embedding for text (length: {})", text.length());
-
-        EmbeddingResponse response =
-                embeddingModel.embedForResponse(List.of(text));
-
-        List<Double> embeddings = new ArrayList<>();
-
-        for(float embedding : response.getResults().getFirst().getOutput()){
-            embeddings.add((double) embedding);
-        }
-
-        logger.debug("Embedding generation completed - Dimensions: {}", embeddings.size());
-        return embeddings;
+    public record SummaryDraft(Map<String, Object> structuredSummary, String embeddingText) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,268 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.saiteja.portfolio_backend.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces concurrent embedding requests into multi-input model calls. A batch is sent once
+ * it holds {@code max-size} inputs or once the most impatient request in it has waited its
+ * maximum, whichever comes first; each caller then gets its own vectors back. The input queue
+ * and the dispatch pool are both bounded, and a failed batch is retried input by input so one
+ * bad text does not fail every caller that shared its batch.
+ */
+@Component
+public class EmbeddingBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingBatcher.class);
+
+    private final EmbeddingModel embeddingModel;
+    private final int maxBatchSize;
+    private final Duration defaultMaxWait;
+    private final long timeoutMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final Thread collector;
+    private final ExecutorService dispatcher;
+
+    private final DistributionSummary batchSizes;
+    private final Timer queueWait;
+
+    public EmbeddingBatcher(EmbeddingModel embeddingModel,
+                            MeterRegistry meterRegistry,
+                            @Value("${ai.embedding-batch.max-size:64}") int maxBatchSize,
+                            @Value("${ai.embedding-batch.max-wait-ms:10}") long maxWaitMs,
+                            @Value("${ai.embedding-batch.concurrency:4}") int concurrency,
+                            @Value("${ai.embedding-batch.queue-capacity:2048}") int queueCapacity,
+                            @Value("${ai.embedding-batch.timeout-ms:30000}") long timeoutMs) {
+
+        this.embeddingModel = embeddingModel;
+        this.maxBatchSize = maxBatchSize;
+        this.defaultMaxWait = Duration.ofMillis(maxWaitMs);
+        this.timeoutMs = timeoutMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.batchSizes = DistributionSummary.builder("embedding.batch.size")
+                .description("Inputs per embedding model call")
+                .register(meterRegistry);
+
+        this.queueWait = Timer.builder("embedding.batch.wait")
+                .description("Time an input waited to be batched")
+                .register(meterRegistry);
+
+        // when every dispatcher is busy the collector sends the batch itself, which stops it
+        // draining the queue; callers then see the bounded queue fill up instead of memory growing
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(concurrency),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "embedding-batch-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        this.collector = new Thread(this::collect, "embedding-batch-collector");
+        this.collector.setDaemon(true);
+        this.collector.start();
+
+        logger.debug("Embedding batcher started - Max size: {} - Max wait: {}ms", maxBatchSize, maxWaitMs);
+    }
+
+    public List<float[]> embed(List<String> texts) {
+        return embed(texts, defaultMaxWait);
+    }
+
+    /**
+     * Embeds the texts, holding them at most {@code maxWait} for other callers to join the
+     * batch. Latency-sensitive callers pass a short wait.
+     */
+    public List<float[]> embed(List<String> texts, Duration maxWait) {
+
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<CompletableFuture<float[]>> futures = new ArrayList<>(texts.size());
+
+        for (String text : texts) {
+            Pending pending = new Pending(text, deadline, System.nanoTime(), new CompletableFuture<>());
+
+            if (!queue.offer(pending)) {
+                // inputs already queued are still embedded; nobody waits for them
+                logger.warn("Embedding queue full - Rejected inputs: {}", texts.size() - futures.size());
+                throw new ServiceBusyException("Embedding service is busy. Please retry shortly.");
+            }
+
+            futures.add(pending.future());
+        }
+
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        long giveUpAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        try {
+            for (CompletableFuture<float[]> future : futures) {
+                embeddings.add(future.get(Math.max(0, giveUpAt - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            logger.warn("Embedding request timed out after {}ms - Inputs: {}", timeoutMs, texts.size());
+            throw new ServiceBusyException("Embedding service timed out. Please retry shortly.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Embedding failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for embeddings", e);
+        }
+
+        return embeddings;
+    }
+
+    private void collect() {
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+
+                Pending first = queue.take();
+                batch.add(first);
+                long deadline = first.deadline();
+
+                while (batch.size() < maxBatchSize) {
+
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                    deadline = Math.min(deadline, next.deadline());
+                }
+
+                dispatcher.execute(() -> dispatch(batch));
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                logger.error("Embedding batch collection failed - Error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void dispatch(List<Pending> batch) {
+
+        long now = System.nanoTime();
+        for (Pending pending : batch) {
+            queueWait.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+
+        batchSizes.record(batch.size());
+
+        try {
+            List<Embedding> results = embeddingModel.embedForResponse(
+                    batch.stream().map(Pending::text).toList()
+            ).getResults();
+
+            float[][] vectors = byInputIndex(results, batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(vectors[i]);
+            }
+
+            logger.debug("Embedding batch sent - Inputs: {} - Duration: {}ms",
+                batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - now));
+
+        } catch (Exception e) {
+            logger.error("Embedding batch failed - Inputs: {} - Error: {}", batch.size(), e.getMessage());
+
+            if (batch.size() == 1) {
+                batch.getFirst().future().completeExceptionally(e);
+            } else {
+                retryIndividually(batch, e);
+            }
+        }
+    }
+
+    // providers do not promise input order; a short, duplicated or out-of-range answer fails the
+    // whole batch rather than handing one caller another caller's vector
+    private static float[][] byInputIndex(List<Embedding> results, int inputs) {
+
+        if (results == null || results.size() != inputs) {
+            throw new IllegalStateException("Embedding response has " + (results == null ? 0 : results.size())
+                    + " results for " + inputs + " inputs");
+        }
+
+        float[][] vectors = new float[inputs][];
+
+        for (Embedding result : results) {
+            Integer index = result.getIndex();
+
+            if (index == null || index < 0 || index >= inputs || vectors[index] != null || result.getOutput() == null) {
+                throw new IllegalStateException("Embedding response has an invalid or repeated index: " + index);
+            }
+
+            vectors[index] = result.getOutput();
+        }
+
+        return vectors;
+    }
+
+    // isolates a bad input from the callers that happened to share its batch
+    private void retryIndividually(List<Pending> batch, Exception batchError) {
+
+        int consecutiveFailures = 0;
+
+        for (Pending pending : batch) {
+
+            // two failures in a row look like the provider, not the input; stop hammering it
+            if (consecutiveFailures >= 2) {
+                pending.future().completeExceptionally(batchError);
+                continue;
+            }
+
+            try {
+                pending.future().complete(embeddingModel.embed(pending.text()));
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                consecutiveFailures++;
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        collector.interrupt();
+        dispatcher.shutdown();
+    }
+
+    private record Pending(String text, long deadline, long enqueuedAt, CompletableFuture<float[]> future) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.saiteja.portfolio_backend.model.EmbeddingCacheEntry;
+import com.saiteja.portfolio_backend.model.EmbeddingVectorConverters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed cache in front of the embedding model. Keys are a SHA-256 of the
+ * embedding model name and the normalized text, so a model switch simply misses. The first
+ * tier is a bounded in-memory cache of {@code float[]}; the second is the
+ * {@code embedding_cache} collection, shared by all instances and expired by a TTL index.
+ * Misses go through the {@link EmbeddingBatcher}.
+ */
+@Component
+public class EmbeddingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EmbeddingBatcher embeddingBatcher;
+    private final MongoTemplate mongoTemplate;
+    private final String modelName;
+    private final Duration searchMaxWait;
+    private final Cache<String, float[]> memory;
+
+    private final Counter memoryHits;
+    private final Counter mongoHits;
+    private final Counter misses;
+    private final Counter savedMillis;
+    private final Timer modelTimer;
+
+    // moving average of a model round trip, used to estimate what a full hit saved
+    private volatile double modelMillisPerCall;
+
+    public EmbeddingCache(EmbeddingBatcher embeddingBatcher,
+                          MongoTemplate mongoTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.ai.openai.embedding.options.model}") String modelName,
+                          @Value("${ai.embedding-cache.max-size:2000}") long maxSize,
+                          @Value("${ai.embedding-batch.search-max-wait-ms:2}") long searchMaxWaitMs) {
+
+        this.embeddingBatcher = embeddingBatcher;
+        this.mongoTemplate = mongoTemplate;
+        this.modelName = modelName;
+        this.searchMaxWait = Duration.ofMillis(searchMaxWaitMs);
+
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "embeddingCache");
+
+        this.memoryHits = lookupCounter(meterRegistry, "memory");
+        this.mongoHits = lookupCounter(meterRegistry, "mongo");
+        this.misses = lookupCounter(meterRegistry, "miss");
+
+        this.savedMillis = Counter.builder("embedding.cache.saved_latency")
+                .description("Estimated embedding latency avoided by requests answered entirely from cache")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        this.modelTimer = Timer.builder("embedding.cache.model_call")
+                .description("Embedding requests made for cache misses, including batching wait")
+                .register(meterRegistry);
+
+        logger.debug("Embedding cache initialized - Model: {} - Max size: {}", modelName, maxSize);
+    }
+
+    /**
+     * Embeds a single latency-sensitive text, e.g. a search query; a miss is held only
+     * briefly for batching.
+     */
+    public float[] embed(String text) {
+        return embedAll(List.of(text), searchMaxWait).getFirst();
+    }
+
+    /**
+     * Embeds all texts, preserving order. Only texts found in neither tier reach the model.
+     */
+    public List<float[]> embedAll(List<String> texts) {
+        return embedAll(texts, null);
+    }
+
+    private List<float[]> embedAll(List<String> texts, Duration maxWait) {
+
+        long startTime = System.nanoTime();
+
+        List<String> keys = new ArrayList<>(texts.size());
+        Map<String, float[]> found = new LinkedHashMap<>();
+
+        for (String text : texts) {
+            String key = key(text);
+            keys.add(key);
+
+            if (!found.containsKey(key)) {
+                float[] cached = memory.getIfPresent(key);
+                if (cached != null) {
+                    found.put(key, cached);
+                }
+            }
+        }
+
+        // each tier counts unique keys, so memory + mongo + miss adds up to the distinct texts asked for
+        memoryHits.increment(found.size());
+
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            if (!found.containsKey(keys.get(i))) {
+                missing.putIfAbsent(keys.get(i), normalize(texts.get(i)));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            loadFromMongo(missing, found);
+        }
+
+        if (missing.isEmpty()) {
+            double lookupMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+            savedMillis.increment(Math.max(0, modelMillisPerCall - lookupMillis));
+        } else {
+            embedMissing(missing, found, maxWait);
+        }
+
+        List<float[]> embeddings = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            embeddings.add(found.get(key));
+        }
+
+        return embeddings;
+    }
+
+    private void loadFromMongo(Map<String, String> missing, Map<String, float[]> found) {
+
+        try {
+            List<EmbeddingCacheEntry> entries = mongoTemplate.find(
+                    Query.query(Criteria.where("_id").in(missing.keySet()).and("model").is(modelName)),
+                    EmbeddingCacheEntry.class
+            );
+
+            int hits = 0;
+            for (EmbeddingCacheEntry entry : entries) {
+                if (entry.getVector() != null && missing.remove(entry.getId()) != null) {
+                    found.put(entry.getId(), entry.getVector());
+                    memory.put(entry.getId(), entry.getVector());
+                    hits++;
+                }
+            }
+
+            mongoHits.increment(hits);
+
+        } catch (Exception e) {
+            // the persistent tier is an optimization; fall through to the model
+            logger.warn("Embedding cache lookup failed - Error: {}", e.getMessage());
+        }
+    }
+
+    private void embedMissing(Map<String, String> missing, Map<String, float[]> found, Duration maxWait) {
+
+        List<String> keys = new ArrayList<>(missing.keySet());
+        List<String> texts = new ArrayList<>(missing.values());
+
+        misses.increment(keys.size());
+
+        long startTime = System.nanoTime();
+        List<float[]> results = maxWait != null
+                ? embeddingBatcher.embed(texts, maxWait)
+                : embeddingBatcher.embed(texts);
+        long elapsed = System.nanoTime() - startTime;
+
+        modelTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        double elapsedMillis = elapsed / 1_000_000.0;
+        modelMillisPerCall = modelMillisPerCall == 0 ? elapsedMillis : 0.8 * modelMillisPerCall + 0.2 * elapsedMillis;
+
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmbeddingCacheEntry.class);
+
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            float[] vector = results.get(i);
+
+            found.put(key, vector);
+            memory.put(key, vector);
+
+            bulk.upsert(
+                    Query.query(Criteria.where("_id").is(key)),
+                    new Update()
+                            .setOnInsert("model", modelName)
+                            .setOnInsert("vector", EmbeddingVectorConverters.toBinary(vector))
+                            .setOnInsert("createdAt", now)
+            );
+        }
+
+        try {
+            bulk.execute();
+        } catch (Exception e) {
+            logger.warn("Failed to persist {} embeddings to cache - Error: {}", keys.size(), e.getMessage());
+        }
+
+        logger.debug("Embedded {} uncached texts - Duration: {}ms", keys.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private String key(String text) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // whitespace and Unicode form never change what an embedding means; the normalized text is what gets embedded
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("embedding.cache.lookups")
+                .description("Unique embedding keys looked up, by the tier that answered them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
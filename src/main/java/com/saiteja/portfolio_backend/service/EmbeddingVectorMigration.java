@@ -0,0 +1,87 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.saiteja.portfolio_backend.model.AISummary;
+import com.saiteja.portfolio_backend.model.EmbeddingVectorConverters;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rewrites AI summary embeddings stored as arrays of doubles into packed float32 binary
+ * vectors, one batch per tick. Only runs when enabled; the reader handles both shapes, so
+ * the migration can run while the app serves traffic.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ai.summary.embedding-migration.enabled", havingValue = "true")
+public class EmbeddingVectorMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingVectorMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${ai.summary.embedding-migration.batch-size:500}")
+    private int batchSize;
+
+    private volatile boolean finished;
+    private long migrated;
+
+    @Scheduled(fixedDelayString = "${ai.summary.embedding-migration.interval-ms:1000}")
+    public void migrateBatch() {
+
+        if (finished) {
+            return;
+        }
+
+        try {
+            Query query = Query.query(legacyEmbedding()).limit(batchSize);
+            query.fields().include("embedding");
+
+            String collection = mongoTemplate.getCollectionName(AISummary.class);
+            List<Document> documents = mongoTemplate.find(query, Document.class, collection);
+
+            if (documents.isEmpty()) {
+                finished = true;
+                logger.info("Embedding vector migration complete - Migrated: {}", migrated);
+                return;
+            }
+
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+
+            for (Document document : documents) {
+                float[] vector = EmbeddingVectorConverters.fromNumbers(document.getList("embedding", Number.class));
+
+                // a summary regenerated meanwhile already holds a binary vector; leave it alone
+                bulk.updateOne(
+                        Query.query(Criteria.where("_id").is(document.get("_id"))).addCriteria(legacyEmbedding()),
+                        new Update().set("embedding", EmbeddingVectorConverters.toBinary(vector))
+                );
+            }
+
+            int modified = bulk.execute().getModifiedCount();
+            migrated += modified;
+
+            logger.info("Embedding vector migration batch done - Modified: {} - Total: {}", modified, migrated);
+
+        } catch (Exception e) {
+            logger.error("Embedding vector migration batch failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private static Criteria legacyEmbedding() {
+        return Criteria.where("embedding").type(JsonSchemaObject.Type.ARRAY);
+    }
+}
@@ -0,0 +1,181 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Minimal structural diff between two JSON trees, emitted as RFC 6902 add/remove/replace
+ * operations, plus the matching apply. Arrays are trimmed of their common prefix and
+ * suffix first, so inserting or deleting one entry in a long list is a single operation.
+ */
+final class JsonDiff {
+
+    private JsonDiff() {
+    }
+
+    static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode operations = JsonNodeFactory.instance.arrayNode();
+        diff("", source, target, operations);
+        return operations;
+    }
+
+    private static void diff(String path, JsonNode source, JsonNode target, ArrayNode operations) {
+
+        if (source.equals(target)) {
+            return;
+        }
+
+        if (source.isObject() && target.isObject()) {
+
+            Iterator<String> sourceFields = source.fieldNames();
+            while (sourceFields.hasNext()) {
+                String field = sourceFields.next();
+                String fieldPath = path + "/" + escape(field);
+
+                if (target.has(field)) {
+                    diff(fieldPath, source.get(field), target.get(field), operations);
+                } else {
+                    operations.add(operation("remove", fieldPath, null));
+                }
+            }
+
+            Iterator<String> targetFields = target.fieldNames();
+            while (targetFields.hasNext()) {
+                String field = targetFields.next();
+                if (!source.has(field)) {
+                    operations.add(operation("add", path + "/" + escape(field), target.get(field)));
+                }
+            }
+
+            return;
+        }
+
+        if (source.isArray() && target.isArray()) {
+            diffArrays(path, source, target, operations);
+            return;
+        }
+
+        operations.add(operation("replace", path, target));
+    }
+
+    private static void diffArrays(String path, JsonNode source, JsonNode target, ArrayNode operations) {
+
+        int sourceSize = source.size();
+        int targetSize = target.size();
+
+        int prefix = 0;
+        while (prefix < sourceSize && prefix < targetSize && source.get(prefix).equals(target.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < sourceSize - prefix && suffix < targetSize - prefix
+                && source.get(sourceSize - 1 - suffix).equals(target.get(targetSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int sourceMiddle = sourceSize - prefix - suffix;
+        int targetMiddle = targetSize - prefix - suffix;
+        int common = Math.min(sourceMiddle, targetMiddle);
+
+        for (int i = 0; i < common; i++) {
+            diff(path + "/" + (prefix + i), source.get(prefix + i), target.get(prefix + i), operations);
+        }
+
+        if (targetMiddle > sourceMiddle) {
+            for (int i = common; i < targetMiddle; i++) {
+                operations.add(operation("add", path + "/" + (prefix + i), target.get(prefix + i)));
+            }
+        } else {
+            // highest index first so earlier removals do not shift later ones
+            for (int i = sourceMiddle - 1; i >= common; i--) {
+                operations.add(operation("remove", path + "/" + (prefix + i), null));
+            }
+        }
+    }
+
+    /**
+     * Applies operations produced by {@link #diff} to a copy of the document.
+     */
+    static JsonNode apply(JsonNode document, JsonNode operations) {
+
+        JsonNode result = document.deepCopy();
+
+        for (JsonNode operation : operations) {
+
+            String op = operation.path("op").asText();
+            List<String> tokens = parse(operation.path("path").asText());
+            JsonNode value = operation.get("value");
+
+            if (tokens.isEmpty()) {
+                result = value.deepCopy();
+                continue;
+            }
+
+            JsonNode parent = result;
+            for (int i = 0; i < tokens.size() - 1; i++) {
+                String token = tokens.get(i);
+                parent = parent.isArray() ? parent.get(Integer.parseInt(token)) : parent.get(token);
+            }
+
+            String last = tokens.get(tokens.size() - 1);
+
+            if (parent instanceof ObjectNode object) {
+                if ("remove".equals(op)) {
+                    object.remove(last);
+                } else {
+                    object.set(last, value.deepCopy());
+                }
+            } else if (parent instanceof ArrayNode array) {
+                int index = "-".equals(last) ? array.size() : Integer.parseInt(last);
+                switch (op) {
+                    case "add" -> array.insert(index, value.deepCopy());
+                    case "remove" -> array.remove(index);
+                    default -> array.set(index, value.deepCopy());
+                }
+            } else {
+                throw new IllegalStateException("Patch path does not resolve: " + operation.path("path").asText());
+            }
+        }
+
+        return result;
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+
+        ObjectNode operation = JsonNodeFactory.instance.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+
+        if (value != null) {
+            operation.set("value", value);
+        }
+
+        return operation;
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static List<String> parse(String pointer) {
+
+        List<String> tokens = new ArrayList<>();
+
+        if (pointer.isEmpty()) {
+            return tokens;
+        }
+
+        for (String raw : pointer.substring(1).split("/", -1)) {
+            tokens.add(raw.replace("~1", "/").replace("~0", "~"));
+        }
+
+        return tokens;
+    }
+}
@@ -0,0 +1,113 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hashes only the parts of a portfolio that feed the AI summary. Object keys are
+ * sorted, string whitespace is normalized and presentation-only fields are skipped,
+ * so template switches, image changes and reformatting leave the hash unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioContentHasher {
+
+    private static final Set<String> IGNORED_TOP_LEVEL_FIELDS =
+            Set.of("activeTemplate", "slug", "isPublished", "footer", "socials");
+
+    private static final Set<String> IGNORED_FIELDS = Set.of("image", "logo");
+
+    private final ObjectMapper objectMapper;
+
+    public String summaryHash(Object portfolioData) {
+
+        JsonNode tree = objectMapper.valueToTree(portfolioData);
+        MessageDigest digest = sha256();
+
+        update(digest, tree, true);
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, JsonNode node, boolean topLevel) {
+
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            digest.update((byte) 'z');
+            return;
+        }
+
+        if (node.isObject()) {
+            List<String> fields = new ArrayList<>();
+            node.fieldNames().forEachRemaining(fields::add);
+            fields.sort(null);
+
+            digest.update((byte) '{');
+            for (String field : fields) {
+                if (IGNORED_FIELDS.contains(field) || (topLevel && IGNORED_TOP_LEVEL_FIELDS.contains(field))) {
+                    continue;
+                }
+                JsonNode value = node.get(field);
+                if (isBlank(value)) {
+                    continue;
+                }
+                updateString(digest, field);
+                update(digest, value, false);
+            }
+            digest.update((byte) '}');
+            return;
+        }
+
+        if (node.isArray()) {
+            digest.update((byte) '[');
+            for (JsonNode element : node) {
+                update(digest, element, false);
+            }
+            digest.update((byte) ']');
+            return;
+        }
+
+        if (node.isTextual()) {
+            digest.update((byte) 's');
+            updateString(digest, normalize(node.textValue()));
+            return;
+        }
+
+        digest.update((byte) 'v');
+        updateString(digest, node.asText());
+    }
+
+    private static boolean isBlank(JsonNode value) {
+        return value == null
+                || value.isNull()
+                || (value.isTextual() && value.textValue().isBlank());
+    }
+
+    private static String normalize(String value) {
+        return value.strip().replaceAll("\\s+", " ");
+    }
+
+    private static void updateString(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mongodb.bulk.BulkWriteError;
+import com.saiteja.portfolio_backend.dto.PortfolioImportRecord;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.User;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk portfolio import from NDJSON. The upload is read one line at a time and written in
+ * unordered bulk batches, so memory stays bounded by the batch size and the line length cap
+ * rather than the upload. Progress and per-line errors are streamed back as NDJSON while the
+ * import runs.
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioImportService.class);
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final SummaryJobQueue summaryJobQueue;
+    private final PortfolioContentHasher contentHasher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PortfolioRevisionService revisionService;
+    private final PublicPortfolioCache publicPortfolioCache;
+
+    @Value("${portfolio.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${portfolio.import.max-line-length:1048576}")
+    private int maxLineLength;
+
+    public void importNdjson(InputStream input, OutputStream output, String requestedBy) throws IOException {
+
+        long startTime = System.currentTimeMillis();
+        logger.info("Portfolio import started by: {} - Batch size: {}", requestedBy, batchSize);
+
+        ObjectReader reader = objectMapper.readerFor(PortfolioImportRecord.class);
+        LineReader lines = new LineReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), maxLineLength);
+
+        Progress progress = new Progress();
+        Map<String, PendingRecord> batch = new LinkedHashMap<>();
+
+        int lineNumber = 0;
+
+        while (lines.next()) {
+
+            lineNumber++;
+
+            if (lines.tooLong()) {
+                progress.read++;
+                reportError(output, progress, lineNumber, null, "Line exceeds " + maxLineLength + " characters");
+                continue;
+            }
+
+            String line = lines.line();
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            progress.read++;
+
+            PendingRecord record;
+            try {
+                record = toPending(lineNumber, reader.readValue(line));
+            } catch (JsonProcessingException e) {
+                reportError(output, progress, lineNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                reportError(output, progress, lineNumber, null, e.getMessage());
+                continue;
+            }
+
+            // unordered writes give no ordering within a batch, so a repeated email starts a new one
+            if (batch.containsKey(record.userEmail())) {
+                flush(batch, output, progress);
+            }
+
+            batch.put(record.userEmail(), record);
+
+            if (batch.size() >= batchSize) {
+                flush(batch, output, progress);
+            }
+        }
+
+        flush(batch, output, progress);
+
+        Map<String, Object> done = progress.toEvent("done");
+        done.put("durationMs", System.currentTimeMillis() - startTime);
+        writeEvent(output, done);
+        output.flush();
+
+        logger.info("Portfolio import finished by: {} - Read: {} - Imported: {} - Failed: {} - Duration: {}ms",
+            requestedBy, progress.read, progress.imported, progress.failed, System.currentTimeMillis() - startTime);
+    }
+
+    private PendingRecord toPending(int lineNumber, PortfolioImportRecord record) {
+
+        String email = record.getUserEmail() != null ? record.getUserEmail().trim() : null;
+
+        if (email == null || email.isEmpty() || !email.contains("@")) {
+            throw new IllegalArgumentException("userEmail is required");
+        }
+
+        if (record.getData() == null) {
+            throw new IllegalArgumentException("data is required for " + email);
+        }
+
+        return new PendingRecord(lineNumber, email, record.getData());
+    }
+
+    private void flush(Map<String, PendingRecord> batch, OutputStream output, Progress progress) throws IOException {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PendingRecord> records = new ArrayList<>(batch.values());
+        batch.clear();
+
+        Map<String, String> userIds = userRepository.findByEmailIn(records.stream().map(PendingRecord::userEmail).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getEmail, User::getId, (first, second) -> first));
+
+        List<PendingRecord> writable = new ArrayList<>(records.size());
+
+        for (PendingRecord record : records) {
+            if (userIds.containsKey(record.userEmail())) {
+                writable.add(record);
+            } else {
+                reportError(output, progress, record.lineNumber(), record.userEmail(), "No user registered with this email");
+            }
+        }
+
+        if (!writable.isEmpty()) {
+            Set<Integer> failedIndexes = write(writable, userIds, output, progress);
+
+            Map<String, String> enqueue = new LinkedHashMap<>();
+            for (int i = 0; i < writable.size(); i++) {
+                if (!failedIndexes.contains(i)) {
+                    String email = writable.get(i).userEmail();
+                    enqueue.put(email, userIds.get(email));
+                }
+            }
+
+            progress.imported += enqueue.size();
+            recordRevisions(enqueue.keySet());
+
+            try {
+                summaryJobQueue.enqueueAll(enqueue);
+            } catch (Exception e) {
+                // portfolios are stored; summaries catch up on the user's next save
+                logger.error("Failed to enqueue AI summary jobs for import batch - Count: {} - Error: {}",
+                    enqueue.size(), e.getMessage());
+            }
+        }
+
+        writeEvent(output, progress.toEvent("progress"));
+        output.flush();
+    }
+
+    private Set<Integer> write(List<PendingRecord> records, Map<String, String> userIds,
+                               OutputStream output, Progress progress) throws IOException {
+
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Portfolio.class);
+
+        for (PendingRecord record : records) {
+            bulk.upsert(
+                    Query.query(Criteria.where("userEmail").is(record.userEmail())),
+                    new Update()
+                            .set("data", record.data())
+                            .set("summaryHash", contentHasher.summaryHash(record.data()))
+                            .set("userId", userIds.get(record.userEmail()))
+                            .set("updatedAt", now)
+                            .setOnInsert("createdAt", now)
+                            .inc("version", 1)
+            );
+        }
+
+        try {
+            bulk.execute();
+            meterRegistry.counter("portfolio.import.records", "outcome", "imported").increment(records.size());
+            return Set.of();
+
+        } catch (BulkOperationException e) {
+
+            Set<Integer> failedIndexes = new HashSet<>();
+
+            for (BulkWriteError error : e.getErrors()) {
+                failedIndexes.add(error.getIndex());
+                PendingRecord record = records.get(error.getIndex());
+                reportError(output, progress, record.lineNumber(), record.userEmail(), error.getMessage());
+            }
+
+            logger.warn("Portfolio import batch partially failed - Size: {} - Failed: {}",
+                records.size(), failedIndexes.size());
+
+            meterRegistry.counter("portfolio.import.records", "outcome", "imported")
+                    .increment(records.size() - failedIndexes.size());
+            return failedIndexes;
+        }
+    }
+
+    // the bulk upsert bumps each version; record it so the revision API can serve that version
+    private void recordRevisions(Collection<String> emails) {
+
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Portfolio portfolio : mongoTemplate.find(Query.query(Criteria.where("userEmail").in(emails)), Portfolio.class)) {
+                revisionService.record(portfolio);
+                publicPortfolioCache.invalidate(portfolio.getPublicSlug());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to record revisions for import batch - Count: {} - Error: {}",
+                emails.size(), e.getMessage());
+        }
+    }
+
+    private void reportError(OutputStream output, Progress progress, int lineNumber, String email,
+                             String message) throws IOException {
+
+        progress.failed++;
+        meterRegistry.counter("portfolio.import.records", "outcome", "failed").increment();
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "error");
+        event.put("line", lineNumber);
+        event.put("email", email);
+        event.put("message", message);
+        writeEvent(output, event);
+
+        logger.debug("Portfolio import error at line: {} - Email: {} - Error: {}", lineNumber, email, message);
+    }
+
+    private void writeEvent(OutputStream output, Map<String, Object> event) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(event));
+        output.write(NEWLINE);
+    }
+
+    private record PendingRecord(int lineNumber, String userEmail, PortfolioData data) {
+    }
+
+    /**
+     * Reads lines of at most {@code maxLength} characters. The rest of an over-long line is
+     * skipped without being buffered, and the line is flagged instead of returned.
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        // false once the input is exhausted
+        boolean next() throws IOException {
+
+            line.setLength(0);
+            tooLong = false;
+
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+
+            while (c != -1 && c != '\n') {
+                if (line.length() < maxLength) {
+                    line.append((char) c);
+                } else if (c != '\r') {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+
+            return true;
+        }
+
+        String line() {
+            return line.toString();
+        }
+
+        boolean tooLong() {
+            return tooLong;
+        }
+    }
+
+    private static class Progress {
+
+        private long read;
+        private long imported;
+        private long failed;
+
+        private Map<String, Object> toEvent(String type) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("type", type);
+            event.put("read", read);
+            event.put("imported", imported);
+            event.put("failed", failed);
+            return event;
+        }
+    }
+}
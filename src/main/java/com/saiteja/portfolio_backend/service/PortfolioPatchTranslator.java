@@ -0,0 +1,333 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.saiteja.portfolio_backend.exceptions.InvalidPatchException;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates JSON Merge Patch (RFC 7396) and JSON Patch (RFC 6902) documents into a
+ * Mongo update on {@code data.*} paths, so an edit only ships the fields it touches.
+ * Operations that need the current document to evaluate (move, copy, test, removing
+ * an array element) are rejected rather than emulated.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioPatchTranslator {
+
+    private static final String ROOT = "data";
+
+    private final ObjectMapper objectMapper;
+
+    public Update fromMergePatch(JsonNode patch) {
+
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+
+        Operations operations = new Operations();
+        collectMergePatch(ROOT, patch, operations);
+
+        return operations.toUpdate();
+    }
+
+    public Update fromJsonPatch(JsonNode patch) {
+
+        if (patch == null || !patch.isArray()) {
+            throw new InvalidPatchException("JSON Patch must be an array of operations");
+        }
+
+        Operations operations = new Operations();
+
+        for (JsonNode operation : patch) {
+
+            String op = operation.path("op").asText();
+            JsonNode pathNode = operation.get("path");
+
+            if (pathNode == null || !pathNode.isTextual()) {
+                throw new InvalidPatchException("JSON Patch operation is missing a path");
+            }
+
+            List<String> tokens = parsePointer(pathNode.asText());
+            JsonNode value = operation.get("value");
+
+            switch (op) {
+                case "add" -> {
+                    requireValue(op, value);
+                    String last = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+
+                    if ("-".equals(last)) {
+                        operations.append(toPath(tokens.subList(0, tokens.size() - 1)), toValue(value));
+                    } else if (last != null && isIndex(last)) {
+                        operations.insert(toPath(tokens.subList(0, tokens.size() - 1)),
+                                Integer.parseInt(last), toValue(value));
+                    } else {
+                        operations.set(toPath(tokens), toValue(value));
+                    }
+                }
+                case "replace" -> {
+                    requireValue(op, value);
+                    operations.set(toPath(tokens), toValue(value));
+                }
+                case "remove" -> {
+                    if (tokens.isEmpty()) {
+                        throw new InvalidPatchException("Cannot remove the portfolio root");
+                    }
+                    if (isIndex(tokens.get(tokens.size() - 1))) {
+                        throw new InvalidPatchException(
+                                "Removing array elements is not supported, replace the array instead: " + pathNode.asText());
+                    }
+                    operations.unset(toPath(tokens));
+                }
+                default -> throw new InvalidPatchException("Unsupported JSON Patch operation: " + op);
+            }
+        }
+
+        return operations.toUpdate();
+    }
+
+    private void collectMergePatch(String path, JsonNode patch, Operations operations) {
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldPath = path + "." + validateKey(field.getKey());
+            JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                operations.unset(fieldPath);
+            } else if (value.isObject() && value.isEmpty()) {
+                // RFC 7396 turns an absent or non-object target into {}, which a path update cannot decide
+                throw new InvalidPatchException("Empty object in merge patch needs the stored document: " + fieldPath);
+            } else if (value.isObject()) {
+                collectMergePatch(fieldPath, value, operations);
+            } else {
+                operations.set(fieldPath, toValue(stripNulls(value)));
+            }
+        }
+    }
+
+    /**
+     * Whether the patch can only be applied against the stored document, i.e. it holds a nested
+     * empty object: RFC 7396 leaves an object target unchanged but replaces an absent or
+     * non-object one with {@code {}}. Such patches go through {@link #mergeInto} instead of
+     * {@link #fromMergePatch}.
+     */
+    public boolean needsStoredDocument(JsonNode patch) {
+
+        if (patch == null || !patch.isObject()) {
+            return false;
+        }
+
+        for (JsonNode value : patch) {
+            if (value.isObject() && (value.isEmpty() || needsStoredDocument(value))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Applies a merge patch to the current data in memory, following RFC 7396 exactly. Used
+     * when the path-based update cannot: a nested patch meets a value that is not an object
+     * and must replace it, or the patch holds an empty object (see {@link #needsStoredDocument}).
+     */
+    public PortfolioData mergeInto(PortfolioData data, JsonNode patch) {
+
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+
+        JsonNode target = data != null ? objectMapper.valueToTree(data) : objectMapper.createObjectNode();
+
+        try {
+            return objectMapper.treeToValue(merge(target, patch), PortfolioData.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new InvalidPatchException("Patched portfolio is not valid: " + e.getMessage());
+        }
+    }
+
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+
+        patch.fields().forEachRemaining(entry -> {
+            if (entry.getValue().isNull()) {
+                result.remove(entry.getKey());
+            } else {
+                result.set(entry.getKey(), merge(result.get(entry.getKey()), entry.getValue()));
+            }
+        });
+
+        return result;
+    }
+
+    // a merge patch value that replaces a non-object target never carries null members
+    private JsonNode stripNulls(JsonNode value) {
+
+        if (value.isObject()) {
+            ObjectNode copy = objectMapper.createObjectNode();
+            value.fields().forEachRemaining(entry -> {
+                if (!entry.getValue().isNull()) {
+                    copy.set(entry.getKey(), stripNulls(entry.getValue()));
+                }
+            });
+            return copy;
+        }
+
+        return value;
+    }
+
+    private List<String> parsePointer(String pointer) {
+
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+
+        if (!pointer.startsWith("/")) {
+            throw new InvalidPatchException("Invalid JSON Pointer: " + pointer);
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String raw : pointer.substring(1).split("/", -1)) {
+            tokens.add(validateKey(raw.replace("~1", "/").replace("~0", "~")));
+        }
+
+        return tokens;
+    }
+
+    private String validateKey(String key) {
+
+        if (key.isEmpty() || key.contains(".") || key.startsWith("$") || key.indexOf('\0') >= 0) {
+            throw new InvalidPatchException("Invalid field name in patch: '" + key + "'");
+        }
+
+        return key;
+    }
+
+    private static boolean isIndex(String token) {
+        return !token.isEmpty() && token.length() <= 9 && token.chars().allMatch(Character::isDigit);
+    }
+
+    private static String toPath(List<String> tokens) {
+        return tokens.isEmpty() ? ROOT : ROOT + "." + String.join(".", tokens);
+    }
+
+    private static void requireValue(String op, JsonNode value) {
+        if (value == null) {
+            throw new InvalidPatchException("JSON Patch '" + op + "' operation is missing a value");
+        }
+    }
+
+    private Object toValue(JsonNode node) {
+        return objectMapper.convertValue(node, Object.class);
+    }
+
+    private enum Kind {
+        SET,
+        UNSET,
+        APPEND,
+        INSERT
+    }
+
+    private record Operation(Kind kind, Object value, int position) {
+    }
+
+    /**
+     * Ordered set of operations keyed by path. A later set/unset replaces earlier writes to the
+     * same path or below it; anything Mongo would reject as a path conflict fails up front.
+     */
+    private static final class Operations {
+
+        private final Map<String, Operation> byPath = new LinkedHashMap<>();
+
+        void set(String path, Object value) {
+            overwrite(path, new Operation(Kind.SET, value, -1));
+        }
+
+        void unset(String path) {
+            if (ROOT.equals(path)) {
+                throw new InvalidPatchException("Cannot remove the portfolio root");
+            }
+            overwrite(path, new Operation(Kind.UNSET, null, -1));
+        }
+
+        @SuppressWarnings("unchecked")
+        void append(String path, Object value) {
+
+            Operation existing = byPath.get(path);
+
+            if (existing != null && existing.kind() == Kind.APPEND) {
+                ((List<Object>) existing.value()).add(value);
+                return;
+            }
+
+            checkConflicts(path);
+            List<Object> values = new ArrayList<>();
+            values.add(value);
+            byPath.put(path, new Operation(Kind.APPEND, values, -1));
+        }
+
+        void insert(String path, int position, Object value) {
+            checkConflicts(path);
+            byPath.put(path, new Operation(Kind.INSERT, value, position));
+        }
+
+        private void overwrite(String path, Operation operation) {
+
+            byPath.keySet().removeIf(existing -> existing.equals(path) && isWrite(byPath.get(existing))
+                    || existing.startsWith(path + "."));
+
+            checkConflicts(path);
+            byPath.put(path, operation);
+        }
+
+        private boolean isWrite(Operation operation) {
+            return operation.kind() == Kind.SET || operation.kind() == Kind.UNSET;
+        }
+
+        private void checkConflicts(String path) {
+            for (String existing : byPath.keySet()) {
+                if (existing.equals(path) || existing.startsWith(path + ".") || path.startsWith(existing + ".")) {
+                    throw new InvalidPatchException("Conflicting patch operations on path: " + path);
+                }
+            }
+        }
+
+        Update toUpdate() {
+
+            Update update = new Update();
+
+            byPath.forEach((path, operation) -> {
+                switch (operation.kind()) {
+                    case SET -> update.set(path, operation.value());
+                    case UNSET -> update.unset(path);
+                    case APPEND -> update.push(path).each(((List<?>) operation.value()).toArray());
+                    case INSERT -> update.push(path).atPosition(operation.position()).each(operation.value());
+                }
+            });
+
+            return update;
+        }
+    }
+}
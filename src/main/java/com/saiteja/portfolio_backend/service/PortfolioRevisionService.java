@@ -0,0 +1,212 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.saiteja.portfolio_backend.dto.PortfolioRevisionResponse;
+import com.saiteja.portfolio_backend.exceptions.PortfolioNotFoundException;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.PortfolioRevision;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioDataConverters;
+import com.saiteja.portfolio_backend.repository.PortfolioRevisionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records each portfolio write as a JSON Patch against the previous revision, with a full
+ * snapshot whenever the patch chain reaches the snapshot interval. Revisions name their
+ * base explicitly, so concurrent writes that race on recording still materialize correctly.
+ * Every version gets a revision, even one whose data did not change (an empty patch), so any
+ * version the API has returned can be materialized.
+ */
+@Service
+public class PortfolioRevisionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioRevisionService.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final PortfolioRevisionRepository revisionRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int snapshotInterval;
+
+    // latest recorded state per user, so a save normally diffs without reading history
+    private final Cache<String, Head> heads;
+
+    public PortfolioRevisionService(PortfolioRevisionRepository revisionRepository,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${portfolio.revisions.snapshot-interval:20}") int snapshotInterval,
+                                    @Value("${portfolio.revisions.head-cache-size:2000}") long headCacheSize) {
+
+        this.revisionRepository = revisionRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+
+        this.heads = Caffeine.newBuilder()
+                .maximumSize(headCacheSize)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    /**
+     * Records the portfolio as just written. Never fails the write that triggered it.
+     */
+    public void record(Portfolio portfolio) {
+
+        if (portfolio == null || portfolio.getVersion() == null || portfolio.getData() == null) {
+            return;
+        }
+
+        String email = portfolio.getUserEmail();
+        long version = portfolio.getVersion();
+
+        try {
+            JsonNode state = objectMapper.valueToTree(portfolio.getData());
+            Head base = baseFor(email, version);
+
+            PortfolioRevision.PortfolioRevisionBuilder revision = PortfolioRevision.builder()
+                    .userEmail(email)
+                    .version(version)
+                    .createdAt(Instant.now());
+
+            int depth;
+
+            if (base == null || base.depth() + 1 >= snapshotInterval) {
+                depth = 0;
+                revision.snapshot(objectMapper.writeValueAsString(state));
+            } else {
+                // an empty patch still records the version, e.g. a publish or a no-op import
+                depth = base.depth() + 1;
+                revision.baseVersion(base.version())
+                        .depth(depth)
+                        .patch(objectMapper.writeValueAsString(JsonDiff.diff(base.state(), state)));
+            }
+
+            revisionRepository.insert(revision.build());
+            heads.asMap().merge(email, new Head(version, depth, state),
+                    (current, next) -> next.version() > current.version() ? next : current);
+
+            meterRegistry.counter("portfolio.revisions.recorded", "kind", depth == 0 ? "snapshot" : "patch").increment();
+            logger.debug("Portfolio revision recorded for email: {} - Version: {} - Depth: {}", email, version, depth);
+
+        } catch (DuplicateKeyException e) {
+            logger.debug("Portfolio revision already recorded for email: {} - Version: {}", email, version);
+        } catch (Exception e) {
+            meterRegistry.counter("portfolio.revisions.failed").increment();
+            logger.error("Failed to record portfolio revision for email: {} - Version: {} - Error: {}",
+                email, version, e.getMessage(), e);
+        }
+    }
+
+    public List<PortfolioRevisionResponse> listRevisions(String email, int limit) {
+
+        List<PortfolioRevision> revisions = revisionRepository.findSummariesByUserEmail(
+                email,
+                PageRequest.of(0, Math.max(1, Math.min(limit, 200)), Sort.by(Sort.Direction.DESC, "version"))
+        );
+
+        return revisions.stream()
+                .map(revision -> PortfolioRevisionResponse.builder()
+                        .version(revision.getVersion())
+                        .snapshot(revision.getBaseVersion() == null)
+                        .createdAt(revision.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    public JsonNode materialize(String email, long version) {
+
+        Head head = heads.getIfPresent(email);
+        if (head != null && head.version() == version) {
+            return head.state().deepCopy();
+        }
+
+        PortfolioRevision revision = revisionRepository.findByUserEmailAndVersion(email, version)
+                .orElseThrow(() -> new PortfolioNotFoundException("Revision not found"));
+
+        return materialize(revision).state();
+    }
+
+    public PortfolioData materializeData(String email, long version) {
+        return PortfolioDataConverters.fromMap(objectMapper.convertValue(materialize(email, version), MAP_TYPE));
+    }
+
+    private Head baseFor(String email, long version) {
+
+        Head head = heads.getIfPresent(email);
+        if (head != null && head.version() < version) {
+            return head;
+        }
+
+        return revisionRepository.findFirstByUserEmailAndVersionLessThanOrderByVersionDesc(email, version)
+                .map(this::materialize)
+                .orElse(null);
+    }
+
+    /**
+     * Walks back to the nearest snapshot (at most snapshotInterval revisions, usually fetched in
+     * one query) and replays the patches forward.
+     */
+    private Head materialize(PortfolioRevision target) {
+
+        Map<Long, PortfolioRevision> window = new HashMap<>();
+        revisionRepository.findByUserEmailAndVersionLessThanEqualOrderByVersionDesc(
+                target.getUserEmail(), target.getVersion(), PageRequest.of(0, snapshotInterval)
+        ).forEach(revision -> window.put(revision.getVersion(), revision));
+
+        Deque<PortfolioRevision> chain = new ArrayDeque<>();
+        PortfolioRevision current = target;
+
+        while (!current.isSnapshot()) {
+            chain.push(current);
+
+            long baseVersion = current.getBaseVersion();
+            PortfolioRevision base = window.get(baseVersion);
+
+            if (base == null) {
+                base = revisionRepository.findByUserEmailAndVersion(target.getUserEmail(), baseVersion)
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Revision chain broken at version " + baseVersion + " for " + target.getUserEmail()));
+            }
+
+            current = base;
+        }
+
+        try {
+            JsonNode state = objectMapper.readTree(current.getSnapshot());
+
+            while (!chain.isEmpty()) {
+                state = JsonDiff.apply(state, objectMapper.readTree(chain.pop().getPatch()));
+            }
+
+            return new Head(target.getVersion(), target.getDepth(), state);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable revision for " + target.getUserEmail(), e);
+        }
+    }
+
+    private record Head(long version, int depth, JsonNode state) {
+    }
+}
@@ -1,49 +1,77 @@
 package com.saiteja.portfolio_backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mongodb.MongoServerException;
+import com.saiteja.portfolio_backend.exceptions.InvalidPatchException;
 import com.saiteja.portfolio_backend.exceptions.PortfolioNotFoundException;
 import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.Hero;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.repository.AISummaryRepository;
 import com.saiteja.portfolio_backend.repository.PortfolioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.util.Map;
-
 @Service
 @RequiredArgsConstructor
 public class PortfolioService {
 
     private static final Logger logger = LoggerFactory.getLogger(PortfolioService.class);
 
+    private static final int MAX_SLUG_ATTEMPTS = 5;
+
+    // Mongo's error when an update path runs through a value that is not an object
+    private static final int PATH_NOT_VIABLE = 28;
+
     private final PortfolioRepository portfolioRepository;
 
-    private final AISummaryService aiSummaryService;
+    private final SummaryJobQueue summaryJobQueue;
 
-    public Portfolio saveOrUpdatePortfolio(String email, String userId, Map<String, Object> data) {
+    private final AISummaryRepository aiSummaryRepository;
 
-        logger.info("Portfolio save/update initiated for email: {} - userId: {}", email, userId);
-        long startTime = System.currentTimeMillis();
+    private final PortfolioContentHasher contentHasher;
 
-        Portfolio portfolio = portfolioRepository.findByUserEmail(email)
-                .orElse(
-                        Portfolio.builder()
-                                .userEmail(email)
-                                .createdAt(Instant.now())
-                                .build()
-                );
+    private final MeterRegistry meterRegistry;
+
+    private final PortfolioPatchTranslator patchTranslator;
 
-        portfolio.setUserId(userId);
-        portfolio.setData(data);
-        portfolio.setUpdatedAt(Instant.now());
+    private final SlugAllocator slugAllocator;
 
-        logger.debug("Portfolio object prepared for email: {}", email);
+    private final PublicPortfolioCache publicPortfolioCache;
 
-        aiSummaryService.generateAndSaveSummary(email, userId, data);
-        logger.debug("AI summary generation triggered (async) for email: {}", email);
+    private final PortfolioRevisionService revisionService;
+
+    public Portfolio saveOrUpdatePortfolio(String email, String userId, PortfolioData data) {
+        return saveOrUpdatePortfolio(email, userId, data, null);
+    }
 
-        Portfolio saved = portfolioRepository.save(portfolio);
+    public Portfolio saveOrUpdatePortfolio(String email, String userId, PortfolioData data,
+                                           Long expectedVersion) {
+
+        logger.info("Portfolio save/update initiated for email: {} - userId: {}", email, userId);
+        long startTime = System.currentTimeMillis();
+
+        String summaryHash = contentHasher.summaryHash(data);
+
+        Portfolio saved = portfolioRepository.upsertContent(email, userId, data, summaryHash, expectedVersion);
+        // autosaves are frequent; the next public view compiles the new content once
+        publicPortfolioCache.invalidate(saved.getPublicSlug());
+        revisionService.record(saved);
+
+        if (aiSummaryRepository.existsByUserEmailAndSourceHash(email, summaryHash)) {
+            meterRegistry.counter("ai_summary.regeneration", "outcome", "skipped").increment();
+            logger.debug("Summary-relevant content unchanged, skipping AI summary for email: {}", email);
+        } else {
+            meterRegistry.counter("ai_summary.regeneration", "outcome", "regenerated").increment();
+            summaryJobQueue.enqueue(email, userId);
+            logger.debug("AI summary job enqueued for email: {}", email);
+        }
 
         long duration = System.currentTimeMillis() - startTime;
         logger.info("Portfolio saved successfully for email: {} - Duration: {}ms", email, duration);
@@ -51,6 +79,89 @@ public class PortfolioService {
         return saved;
     }
 
+    public Portfolio mergePatchPortfolio(String email, String userId, JsonNode patch) {
+
+        if (patchTranslator.needsStoredDocument(patch)) {
+            return mergeWithStored(email, userId, patch);
+        }
+
+        Update update = patchTranslator.fromMergePatch(patch);
+
+        try {
+            return applyPatch(email, userId, update, "merge-patch");
+        } catch (DataAccessException e) {
+            if (!isPathNotViable(e)) {
+                throw e;
+            }
+
+            // a nested patch met a scalar or array, which RFC 7396 replaces
+            return mergeWithStored(email, userId, patch);
+        }
+    }
+
+    // merges against the stored copy and saves it only if nobody wrote in between
+    private Portfolio mergeWithStored(String email, String userId, JsonNode patch) {
+
+        logger.debug("Merge patch needs the stored document for email: {}", email);
+
+        Portfolio current = portfolioRepository.findByUserEmail(email).orElse(null);
+
+        if (current == null) {
+            return saveOrUpdatePortfolio(email, userId, patchTranslator.mergeInto(null, patch), null);
+        }
+
+        return saveOrUpdatePortfolio(email, userId, patchTranslator.mergeInto(current.getData(), patch), current.getVersion());
+    }
+
+    public Portfolio jsonPatchPortfolio(String email, String userId, JsonNode patch) {
+
+        try {
+            return applyPatch(email, userId, patchTranslator.fromJsonPatch(patch), "json-patch");
+        } catch (DataAccessException e) {
+            if (!isPathNotViable(e)) {
+                throw e;
+            }
+            throw new InvalidPatchException("JSON Patch path runs through a value that is not an object");
+        }
+    }
+
+    private static boolean isPathNotViable(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof MongoServerException server && server.getCode() == PATH_NOT_VIABLE;
+    }
+
+    private Portfolio applyPatch(String email, String userId, Update update, String format) {
+
+        logger.info("Portfolio patch initiated for email: {} - Format: {}", email, format);
+        long startTime = System.currentTimeMillis();
+
+        if (update.getUpdateObject().isEmpty()) {
+            logger.debug("Portfolio patch changes nothing for email: {}", email);
+            return portfolioRepository.findByUserEmail(email).orElse(null);
+        }
+
+        // the summary hash needs the full document; the summary job recomputes it
+        Portfolio patched = portfolioRepository.upsertFields(email, userId, update.unset("summaryHash"));
+        publicPortfolioCache.invalidate(patched.getPublicSlug());
+        revisionService.record(patched);
+
+        summaryJobQueue.enqueue(email, userId);
+
+        long duration = System.currentTimeMillis() - startTime;
+        logger.info("Portfolio patched successfully for email: {} - Duration: {}ms", email, duration);
+
+        return patched;
+    }
+
+    public Portfolio rollbackPortfolio(String email, String userId, long version) {
+
+        logger.info("Portfolio rollback initiated for email: {} - Target version: {}", email, version);
+
+        PortfolioData data = revisionService.materializeData(email, version);
+
+        // a rollback is an ordinary save, so it becomes the newest revision itself
+        return saveOrUpdatePortfolio(email, userId, data);
+    }
+
     public Portfolio getPortfolio(String email) {
         logger.debug("Retrieving portfolio for email: {}", email);
         Portfolio portfolio = portfolioRepository.findByUserEmail(email).orElse(null);
@@ -75,47 +186,56 @@ public class PortfolioService {
                     return new PortfolioNotFoundException("Portfolio not found");
                 });
 
-        if (!portfolio.isPublished()) {
-            logger.debug("Portfolio not yet published, generating slug for email: {}", email);
-
-            String slug = generateSlug(
-                    portfolio.getData().get("hero") != null
-                            ? ((Map<String, Object>) portfolio.getData().get("hero"))
-                            .get("name").toString()
-                            : email
-            );
-
-            portfolio.setPublicSlug(slug);
-            portfolio.setPublished(true);
-            portfolio.setUpdatedAt(Instant.now());
-
-            portfolioRepository.save(portfolio);
-            logger.info("Portfolio published successfully for email: {} - Slug: {}", email, slug);
-        } else {
+        if (portfolio.isPublished()) {
             logger.debug("Portfolio already published for email: {} - Slug: {}",
                 email, portfolio.getPublicSlug());
+            return portfolio.getPublicSlug();
         }
 
-        return portfolio.getPublicSlug();
-    }
+        logger.debug("Portfolio not yet published, allocating slug for email: {}", email);
 
+        String base = slugAllocator.slugify(displayName(portfolio, email));
 
-    private String generateSlug(String base) {
+        for (int attempt = 1; attempt <= MAX_SLUG_ATTEMPTS + 1; attempt++) {
 
-        logger.debug("Generating slug from base: {}", base);
+            String slug = attempt <= MAX_SLUG_ATTEMPTS
+                    ? slugAllocator.nextCandidate(base)
+                    : slugAllocator.randomCandidate(base);
 
-        String slug = base.toLowerCase().replaceAll("\\s+", "-");
+            try {
+                Portfolio published = portfolioRepository.markPublished(email, slug);
 
-        int counter = 1;
+                if (published == null) {
+                    // published concurrently by another request; keep the slug that won
+                    String existing = portfolioRepository.findByUserEmail(email)
+                            .map(Portfolio::getPublicSlug)
+                            .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found"));
+                    logger.debug("Portfolio published concurrently for email: {} - Slug: {}", email, existing);
+                    return existing;
+                }
 
-        while (portfolioRepository.existsByPublicSlug(slug)) {
-            slug = slug + "-" + counter;
-            counter++;
-            logger.debug("Slug collision detected, trying: {}", slug);
+                publicPortfolioCache.refresh(published);
+                revisionService.record(published);
+                logger.info("Portfolio published successfully for email: {} - Slug: {} - Attempts: {}",
+                    email, slug, attempt);
+                return slug;
+
+            } catch (DuplicateKeyException e) {
+                logger.debug("Slug collision on publish, retrying - Slug: {}", slug);
+            }
         }
 
-        logger.debug("Slug generated successfully: {}", slug);
-        return slug;
+        throw new IllegalStateException("Could not allocate a public slug for " + email);
     }
 
+    private String displayName(Portfolio portfolio, String email) {
+
+        Hero hero = portfolio.getData() != null ? portfolio.getData().getHero() : null;
+
+        if (hero != null && hero.getName() != null && !hero.getName().isBlank()) {
+            return hero.getName();
+        }
+
+        return email.substring(0, Math.max(0, email.indexOf('@')));
+    }
 }
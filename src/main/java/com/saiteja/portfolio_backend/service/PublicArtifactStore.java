@@ -0,0 +1,171 @@
+package com.saiteja.portfolio_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed on-disk store of compiled public payloads. Each payload is written once
+ * as plain JSON and as a precompressed gzip variant, named by the SHA-256 of the JSON, and
+ * read back as read-only memory-mapped buffers so requests never serialize or compress.
+ */
+@Component
+public class PublicArtifactStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicArtifactStore.class);
+
+    private final Path root;
+    private final Duration retention;
+
+    public PublicArtifactStore(@Value("${portfolio.artifacts.dir:${java.io.tmpdir}/portfolio-artifacts}") String dir,
+                               @Value("${portfolio.artifacts.retention:7d}") Duration retention) throws IOException {
+
+        this.root = Path.of(dir);
+        this.retention = retention;
+
+        Files.createDirectories(root);
+        logger.info("Public artifact store initialized at: {} - Retention: {}", root, retention);
+    }
+
+    public CompiledArtifact compile(byte[] json) {
+
+        String hash = sha256(json);
+
+        try {
+            try {
+                return compile(hash, json);
+            } catch (NoSuchFileException e) {
+                // the retention sweep removed a file between the existence check and the read
+                logger.debug("Public artifact swept during compile, writing it again - Hash: {}", hash);
+                return compile(hash, json);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compile public artifact " + hash, e);
+        }
+    }
+
+    private CompiledArtifact compile(String hash, byte[] json) throws IOException {
+
+        Path identityPath = root.resolve(hash + ".json");
+        Path gzipPath = root.resolve(hash + ".json.gz");
+
+        if (!Files.exists(identityPath)) {
+            write(identityPath, json);
+        }
+
+        if (!Files.exists(gzipPath)) {
+            byte[] gzip = gzip(json);
+            // tiny payloads can grow under gzip; an empty variant means "serve identity"
+            write(gzipPath, gzip.length < json.length ? gzip : new byte[0]);
+            logger.debug("Public artifact compiled - Hash: {} - Size: {} bytes - Gzip: {} bytes",
+                hash, json.length, gzip.length);
+        }
+
+        // keeps artifacts that are still in use out of the retention sweep
+        FileTime now = FileTime.from(Instant.now());
+        Files.setLastModifiedTime(identityPath, now);
+        Files.setLastModifiedTime(gzipPath, now);
+
+        ByteBuffer gzip = map(gzipPath);
+
+        return new CompiledArtifact(hash, map(identityPath), gzip.hasRemaining() ? gzip : null);
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.artifacts.sweep-interval-ms:3600000}")
+    public void sweep() {
+
+        Instant cutoff = Instant.now().minus(retention);
+        int removed = 0;
+
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    // mapped readers keep their pages; a cache miss recompiles the file
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Public artifact sweep failed - Error: {}", e.getMessage());
+        }
+
+        if (removed > 0) {
+            logger.info("Public artifact sweep removed {} files", removed);
+        }
+    }
+
+    private void write(Path target, byte[] content) throws IOException {
+
+        Path temp = Files.createTempFile(root, "artifact-", ".tmp");
+        Files.write(temp, content);
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asReadOnlyBuffer();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+
+        // compiled once per content, so spend the CPU on the best ratio
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Mapped variants of one payload. Buffers are shared; readers must work on a duplicate().
+     */
+    public record CompiledArtifact(String hash, ByteBuffer identity, ByteBuffer gzip) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
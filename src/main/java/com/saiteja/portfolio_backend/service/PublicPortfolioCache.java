@@ -0,0 +1,116 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.saiteja.portfolio_backend.exceptions.PortfolioNotFoundException;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.repository.PortfolioRepository;
+import com.saiteja.portfolio_backend.service.PublicArtifactStore.CompiledArtifact;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Read-through cache of published portfolios keyed by slug. Entries hold the compiled,
+ * memory-mapped artifact and its validators, so a hit costs neither a Mongo query, a
+ * Jackson pass nor compression. Invalidation is local to this instance; the TTL bounds
+ * staleness on other instances.
+ */
+@Component
+public class PublicPortfolioCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicPortfolioCache.class);
+
+    private final PortfolioRepository portfolioRepository;
+    private final ObjectMapper objectMapper;
+    private final PublicArtifactStore artifactStore;
+    private final Cache<String, PublicPortfolio> cache;
+
+    public PublicPortfolioCache(PortfolioRepository portfolioRepository,
+                                ObjectMapper objectMapper,
+                                PublicArtifactStore artifactStore,
+                                MeterRegistry meterRegistry,
+                                @Value("${portfolio.public-cache.max-size:5000}") long maxSize,
+                                @Value("${portfolio.public-cache.ttl:5m}") Duration ttl) {
+
+        this.portfolioRepository = portfolioRepository;
+        this.objectMapper = objectMapper;
+        this.artifactStore = artifactStore;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "publicPortfolioCache");
+
+        logger.debug("Public portfolio cache initialized with max size: {} - TTL: {}", maxSize, ttl);
+    }
+
+    public PublicPortfolio get(String slug) {
+        return cache.get(slug, this::load);
+    }
+
+    /**
+     * Compiles the artifact for a portfolio that was just published, so the first public view
+     * is served without a cold compile. Ordinary saves only invalidate.
+     */
+    public void refresh(Portfolio portfolio) {
+
+        if (!portfolio.isPublished() || portfolio.getPublicSlug() == null) {
+            invalidate(portfolio.getPublicSlug());
+            return;
+        }
+
+        cache.put(portfolio.getPublicSlug(), compile(portfolio));
+        logger.debug("Public portfolio artifact refreshed for slug: {}", portfolio.getPublicSlug());
+    }
+
+    public void invalidate(String slug) {
+        if (slug != null) {
+            cache.invalidate(slug);
+            logger.debug("Public portfolio cache invalidated for slug: {}", slug);
+        }
+    }
+
+    private PublicPortfolio load(String slug) {
+
+        Portfolio portfolio = portfolioRepository
+                .findByPublicSlugAndPublishedTrue(slug)
+                .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found"));
+
+        logger.debug("Public portfolio loaded into cache - Slug: {}", slug);
+        return compile(portfolio);
+    }
+
+    private PublicPortfolio compile(Portfolio portfolio) {
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(portfolio.getData());
+            CompiledArtifact artifact = artifactStore.compile(body);
+            Instant lastModified = portfolio.getUpdatedAt() != null ? portfolio.getUpdatedAt() : Instant.EPOCH;
+
+            return new PublicPortfolio(artifact, lastModified);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize public portfolio " + portfolio.getPublicSlug(), e);
+        }
+    }
+
+    public record PublicPortfolio(CompiledArtifact artifact, Instant lastModified) {
+
+        // strong validators must differ per content-coding
+        public String etag(boolean gzip) {
+            return "\"" + artifact.hash().substring(0, 32) + (gzip ? "-gz" : "") + "\"";
+        }
+    }
+}
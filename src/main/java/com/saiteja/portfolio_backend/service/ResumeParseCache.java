@@ -0,0 +1,146 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.saiteja.portfolio_backend.model.ResumeParseCacheEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of parsed resumes. The key covers the system prompt and model as well as the
+ * whitespace-normalized resume text, so editing the prompt or switching models never serves
+ * an old result. A bounded in-memory tier is always on; the Mongo tier is optional because it
+ * keeps parsed resume content at rest. Cached maps are shared and must not be mutated.
+ */
+@Component
+public class ResumeParseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeParseCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Map<String, Object>> memory;
+    private final Duration ttl;
+    private final boolean persistent;
+    private final Counter mongoHits;
+
+    public ResumeParseCache(MongoTemplate mongoTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${ai.resume-cache.max-size:500}") long maxSize,
+                            @Value("${ai.resume-cache.ttl:24h}") Duration ttl,
+                            @Value("${ai.resume-cache.persistent:false}") boolean persistent) {
+
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.persistent = persistent;
+
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "resumeParseCache");
+
+        this.mongoHits = Counter.builder("resume.parse.cache.persistent_hits")
+                .description("Resume parses answered from the Mongo tier")
+                .register(meterRegistry);
+
+        logger.debug("Resume parse cache initialized - Max size: {} - TTL: {} - Persistent: {}",
+            maxSize, ttl, persistent);
+    }
+
+    public String key(String systemPrompt, String model, String resumeText) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sha256(systemPrompt));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(resumeText).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Map<String, Object> get(String key) {
+
+        Map<String, Object> cached = memory.getIfPresent(key);
+        if (cached != null || !persistent) {
+            return cached;
+        }
+
+        try {
+            ResumeParseCacheEntry entry = mongoTemplate.findById(key, ResumeParseCacheEntry.class);
+
+            // the TTL monitor runs about once a minute, so check expiry here as well
+            if (entry == null || entry.getExpiresAt().isBefore(Instant.now())) {
+                return null;
+            }
+
+            Map<String, Object> result = objectMapper.readValue(entry.getResult(), MAP_TYPE);
+            memory.put(key, result);
+            mongoHits.increment();
+            return result;
+
+        } catch (Exception e) {
+            logger.warn("Resume parse cache lookup failed - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(String key, Map<String, Object> result) {
+
+        memory.put(key, result);
+
+        if (!persistent) {
+            return;
+        }
+
+        try {
+            Instant now = Instant.now();
+            mongoTemplate.save(ResumeParseCacheEntry.builder()
+                    .id(key)
+                    .result(objectMapper.writeValueAsString(result))
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (Exception e) {
+            logger.warn("Failed to persist resume parse result - Error: {}", e.getMessage());
+        }
+    }
+
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static byte[] sha256(String value) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Incremental parser for a streamed JSON object. Text is fed as it arrives into Jackson's
+ * non-blocking parser; every top-level field is handed to the callback as soon as its value
+ * is complete, while later fields are still being generated. Anything before the opening
+ * brace or after the closing one (e.g. a markdown fence) is ignored.
+ */
+class ResumeSectionParser {
+
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, Object> onSection;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Map<String, Object> sections = new LinkedHashMap<>();
+
+    private boolean started;
+    private boolean rootOpened;
+    private boolean closed;
+    private String currentField;
+    private TokenBuffer valueBuffer;
+    private int valueDepth;
+
+    // a high surrogate that ended the previous chunk; its pair arrives with the next one
+    private char pendingHighSurrogate;
+
+    ResumeSectionParser(ObjectMapper objectMapper, BiConsumer<String, Object> onSection) throws IOException {
+        this.objectMapper = objectMapper;
+        this.onSection = onSection;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    void feed(String chunk) throws IOException {
+
+        if (closed || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+
+        if (pendingHighSurrogate != 0) {
+            chunk = pendingHighSurrogate + chunk;
+            pendingHighSurrogate = 0;
+        }
+
+        // encoding half a surrogate pair would corrupt the character
+        if (Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))) {
+            pendingHighSurrogate = chunk.charAt(chunk.length() - 1);
+            chunk = chunk.substring(0, chunk.length() - 1);
+            if (chunk.isEmpty()) {
+                return;
+            }
+        }
+
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            chunk = chunk.substring(start);
+            started = true;
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    /**
+     * Ends the input and returns the whole object. Fails if the stream stopped before the
+     * object was closed.
+     */
+    Map<String, Object> finish() throws IOException {
+
+        if (!closed) {
+            feeder.endOfInput();
+            drain();
+        }
+
+        if (!closed) {
+            throw new IOException("AI response ended before the JSON object was complete");
+        }
+
+        return sections;
+    }
+
+    private void drain() throws IOException {
+
+        JsonToken token;
+
+        while (!closed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+            if (!rootOpened) {
+                rootOpened = true;
+                continue;
+            }
+
+            if (valueBuffer == null) {
+
+                if (token == JsonToken.FIELD_NAME) {
+                    currentField = parser.currentName();
+                    continue;
+                }
+
+                if (token == JsonToken.END_OBJECT) {
+                    closed = true;
+                    continue;
+                }
+
+                valueBuffer = new TokenBuffer(objectMapper, false);
+                valueDepth = 0;
+            }
+
+            valueBuffer.copyCurrentEvent(parser);
+
+            if (token.isStructStart()) {
+                valueDepth++;
+            } else if (token.isStructEnd()) {
+                valueDepth--;
+            }
+
+            if (valueDepth == 0) {
+                Object value = objectMapper.readValue(valueBuffer.asParser(), Object.class);
+                valueBuffer = null;
+                sections.put(currentField, value);
+                onSection.accept(currentField, value);
+            }
+        }
+    }
+}
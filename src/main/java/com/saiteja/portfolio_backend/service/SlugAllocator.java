@@ -0,0 +1,86 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.saiteja.portfolio_backend.model.SlugCounter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hands out slug candidates from an atomic per-base counter, so finding a free slug costs
+ * one round trip no matter how many portfolios share a name. The unique index on
+ * publicSlug stays the source of truth; callers retry on a duplicate key.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlugAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlugAllocator.class);
+
+    private static final int MAX_BASE_LENGTH = 60;
+    private static final String RANDOM_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final MongoTemplate mongoTemplate;
+
+    public String slugify(String name) {
+
+        if (name == null) {
+            return "portfolio";
+        }
+
+        String slug = Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+
+        if (slug.length() > MAX_BASE_LENGTH) {
+            slug = slug.substring(0, MAX_BASE_LENGTH).replaceAll("-+$", "");
+        }
+
+        return slug.isEmpty() ? "portfolio" : slug;
+    }
+
+    /**
+     * Next candidate for the base: the base itself first, then base-1, base-2, ...
+     */
+    public String nextCandidate(String base) {
+
+        SlugCounter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(base)),
+                new Update().inc("seq", 1),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                SlugCounter.class
+        );
+
+        long seq = counter != null ? counter.getSeq() : 1;
+        String candidate = seq <= 1 ? base : base + "-" + (seq - 1);
+
+        logger.debug("Slug candidate allocated: {} - Base: {}", candidate, base);
+        return candidate;
+    }
+
+    /**
+     * Last resort when counter candidates keep colliding with slugs assigned before the counter existed.
+     */
+    public String randomCandidate(String base) {
+
+        StringBuilder suffix = new StringBuilder(6);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 6; i++) {
+            suffix.append(RANDOM_ALPHABET.charAt(random.nextInt(RANDOM_ALPHABET.length())));
+        }
+
+        return base + "-" + suffix;
+    }
+}
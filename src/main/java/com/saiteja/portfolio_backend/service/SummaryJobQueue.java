@@ -0,0 +1,74 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.saiteja.portfolio_backend.model.SummaryJob;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class SummaryJobQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryJobQueue.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${ai.summary.jobs.debounce-ms:10000}")
+    private long debounceMs;
+
+    /**
+     * Requests a summary for the user. Saves within the debounce window collapse into
+     * the single pending job for that user and push its start time back.
+     */
+    public void enqueue(String userEmail, String userId) {
+
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("userEmail").is(userEmail)),
+                pendingUpdate(userId, Instant.now()),
+                SummaryJob.class
+        );
+
+        logger.debug("AI summary job enqueued for email: {} - Debounce: {}ms", userEmail, debounceMs);
+    }
+
+    /**
+     * Enqueues jobs for many users with one unordered bulk write, keyed email to userId.
+     */
+    public void enqueueAll(Map<String, String> userIdsByEmail) {
+
+        if (userIdsByEmail.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SummaryJob.class);
+
+        userIdsByEmail.forEach((userEmail, userId) ->
+                bulk.upsert(Query.query(Criteria.where("userEmail").is(userEmail)), pendingUpdate(userId, now)));
+
+        bulk.execute();
+        logger.debug("AI summary jobs enqueued in bulk - Count: {}", userIdsByEmail.size());
+    }
+
+    private Update pendingUpdate(String userId, Instant now) {
+        return new Update()
+                .set("userId", userId)
+                .set("status", SummaryJob.Status.PENDING)
+                .set("requestedAt", now)
+                .set("runAfter", now.plus(Duration.ofMillis(debounceMs)))
+                .set("attempts", 0)
+                .unset("lastError")
+                .setOnInsert("firstRequestedAt", now);
+    }
+}
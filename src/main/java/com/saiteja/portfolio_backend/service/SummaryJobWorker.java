@@ -0,0 +1,405 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.mongodb.client.result.DeleteResult;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.SummaryJob;
+import com.saiteja.portfolio_backend.repository.AISummaryRepository;
+import com.saiteja.portfolio_backend.repository.PortfolioRepository;
+import com.saiteja.portfolio_backend.repository.SummaryJobRepository;
+import com.saiteja.portfolio_backend.service.AISummaryService.SummaryDraft;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Claims AI summary jobs from Mongo in batches under a lease and runs them locally. Chat
+ * calls for a batch run in parallel; the embeddings for the whole batch are then requested
+ * in one multi-input call. Several instances can poll the same collection; a job is only
+ * ever leased to one of them at a time, and an expired lease (crashed instance) makes the
+ * job claimable again.
+ */
+@Component
+public class SummaryJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryJobWorker.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final SummaryJobRepository jobRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final AISummaryRepository aiSummaryRepository;
+    private final AISummaryService aiSummaryService;
+    private final PortfolioContentHasher contentHasher;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+    private final Duration maxDelay;
+
+    // one coordinator runs a batch at a time; the pool runs that batch's chat calls
+    private final ExecutorService coordinator;
+    private final ExecutorService executor;
+    private final AtomicBoolean batchRunning = new AtomicBoolean();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final Timer lagTimer;
+    private final Timer durationTimer;
+
+    public SummaryJobWorker(MongoTemplate mongoTemplate,
+                            SummaryJobRepository jobRepository,
+                            PortfolioRepository portfolioRepository,
+                            AISummaryRepository aiSummaryRepository,
+                            AISummaryService aiSummaryService,
+                            PortfolioContentHasher contentHasher,
+                            MeterRegistry meterRegistry,
+                            @Value("${ai.summary.jobs.concurrency:2}") int concurrency,
+                            @Value("${ai.summary.jobs.batch-size:16}") int batchSize,
+                            @Value("${ai.summary.jobs.max-attempts:5}") int maxAttempts,
+                            @Value("${ai.summary.jobs.lease-ms:300000}") long leaseMs,
+                            @Value("${ai.summary.jobs.max-delay-ms:120000}") long maxDelayMs) {
+
+        this.mongoTemplate = mongoTemplate;
+        this.jobRepository = jobRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.aiSummaryRepository = aiSummaryRepository;
+        this.aiSummaryService = aiSummaryService;
+        this.contentHasher = contentHasher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.maxDelay = Duration.ofMillis(maxDelayMs);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "summary-job-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "summary-job-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.lagTimer = Timer.builder("ai_summary.jobs.lag")
+                .description("Delay between a job becoming due and a worker claiming it")
+                .register(meterRegistry);
+
+        this.durationTimer = Timer.builder("ai_summary.jobs.duration")
+                .description("Time spent processing a claimed batch")
+                .register(meterRegistry);
+
+        Gauge.builder("ai_summary.jobs.pending", pendingDepth, AtomicLong::get)
+                .description("Pending AI summary jobs across all instances")
+                .register(meterRegistry);
+
+        Gauge.builder("ai_summary.jobs.in_flight", inFlight, AtomicInteger::get)
+                .description("AI summary jobs running on this instance")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ai.summary.jobs.poll-ms:1000}")
+    public void poll() {
+
+        if (!batchRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            String leaseOwner = UUID.randomUUID().toString();
+            List<SummaryJob> batch = claimBatch(leaseOwner);
+
+            if (batch.isEmpty()) {
+                batchRunning.set(false);
+                return;
+            }
+
+            inFlight.set(batch.size());
+            coordinator.execute(() -> {
+                try {
+                    processBatch(batch, leaseOwner);
+                } finally {
+                    inFlight.set(0);
+                    batchRunning.set(false);
+                }
+            });
+
+        } catch (Exception e) {
+            batchRunning.set(false);
+            logger.error("AI summary job poll failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.summary.jobs.depth-refresh-ms:15000}")
+    public void refreshDepth() {
+        try {
+            pendingDepth.set(jobRepository.countByStatus(SummaryJob.Status.PENDING));
+        } catch (Exception e) {
+            logger.warn("Failed to refresh AI summary job depth - Error: {}", e.getMessage());
+        }
+    }
+
+    private List<SummaryJob> claimBatch(String leaseOwner) {
+
+        Instant now = Instant.now();
+
+        Criteria due = new Criteria().orOperator(
+                Criteria.where("runAfter").lte(now),
+                Criteria.where("firstRequestedAt").lte(now.minus(maxDelay))
+        );
+
+        Criteria notLeased = new Criteria().orOperator(
+                Criteria.where("leaseUntil").is(null),
+                Criteria.where("leaseUntil").lt(now)
+        );
+
+        Criteria claimable = new Criteria().orOperator(
+                new Criteria().andOperator(Criteria.where("status").is(SummaryJob.Status.PENDING), due, notLeased),
+                Criteria.where("status").is(SummaryJob.Status.RUNNING).and("leaseUntil").lt(now)
+        );
+
+        Query candidates = Query.query(claimable)
+                .with(Sort.by(Sort.Direction.ASC, "runAfter"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+
+        List<String> ids = mongoTemplate.find(candidates, SummaryJob.class)
+                .stream()
+                .map(SummaryJob::getId)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // re-applying the claimable criteria makes the claim safe against other instances
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids)).addCriteria(claimable),
+                new Update()
+                        .set("status", SummaryJob.Status.RUNNING)
+                        .set("leaseOwner", leaseOwner)
+                        .set("leaseUntil", now.plus(leaseDuration)),
+                SummaryJob.class
+        );
+
+        List<SummaryJob> claimed = jobRepository.findByLeaseOwner(leaseOwner);
+
+        for (SummaryJob job : claimed) {
+            if (job.getRunAfter() != null && job.getRunAfter().isBefore(now)) {
+                lagTimer.record(Duration.between(job.getRunAfter(), now));
+            }
+        }
+
+        logger.debug("Claimed {} AI summary jobs", claimed.size());
+        return claimed;
+    }
+
+    private void processBatch(List<SummaryJob> batch, String leaseOwner) {
+
+        long startTime = System.nanoTime();
+
+        List<CompletableFuture<Drafted>> futures = batch.stream()
+                .map(job -> CompletableFuture.supplyAsync(() -> draft(job, leaseOwner), executor))
+                .toList();
+
+        List<Drafted> drafted = new ArrayList<>();
+        for (CompletableFuture<Drafted> future : futures) {
+            Drafted result = future.join();
+            if (result != null) {
+                drafted.add(result);
+            }
+        }
+
+        if (!drafted.isEmpty()) {
+            saveDrafts(drafted, leaseOwner);
+        }
+
+        durationTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Runs the chat step for one job. Returns null when the job finished without needing an
+     * embedding (dropped, unchanged or failed).
+     */
+    private Drafted draft(SummaryJob job, String leaseOwner) {
+
+        String email = job.getUserEmail();
+
+        try {
+            Portfolio portfolio = portfolioRepository.findByUserEmail(email).orElse(null);
+
+            if (portfolio == null || portfolio.getData() == null) {
+                logger.warn("AI summary job dropped, portfolio not found for email: {}", email);
+                complete(job, leaseOwner, "dropped");
+                return null;
+            }
+
+            String summaryHash = contentHasher.summaryHash(portfolio.getData());
+
+            if (aiSummaryRepository.existsByUserEmailAndSourceHash(email, summaryHash)) {
+                logger.debug("AI summary job skipped, content unchanged for email: {}", email);
+                complete(job, leaseOwner, "skipped");
+                return null;
+            }
+
+            SummaryDraft draft = aiSummaryService.draftSummary(email, portfolio.getData());
+            return new Drafted(job, portfolio, summaryHash, draft);
+
+        } catch (Exception e) {
+            fail(job, leaseOwner, e);
+            return null;
+        }
+    }
+
+    private void saveDrafts(List<Drafted> drafted, String leaseOwner) {
+
+        List<float[]> embeddings;
+
+        try {
+            embeddings = aiSummaryService.embedAll(drafted.stream()
+                    .map(item -> item.draft().embeddingText())
+                    .toList());
+        } catch (Exception e) {
+            logger.warn("Embedding batch failed for {} AI summary jobs, embedding one by one - Error: {}",
+                drafted.size(), e.getMessage());
+            embeddings = embedEach(drafted, leaseOwner);
+        }
+
+        for (int i = 0; i < drafted.size(); i++) {
+
+            Drafted item = drafted.get(i);
+            SummaryJob job = item.job();
+
+            if (embeddings.get(i) == null) {
+                continue;
+            }
+
+            try {
+                boolean saved = aiSummaryService.saveSummary(
+                        job.getUserEmail(),
+                        job.getUserId(),
+                        item.draft(),
+                        embeddings.get(i),
+                        item.summaryHash(),
+                        item.portfolio().getUpdatedAt()
+                );
+
+                complete(job, leaseOwner, saved ? "generated" : "stale");
+
+            } catch (Exception e) {
+                fail(job, leaseOwner, e);
+            }
+        }
+    }
+
+    // keeps one bad text (or a transient batch error) from failing every drafted job; the chat
+    // step already ran, so a failed job costs a whole regeneration on retry
+    private List<float[]> embedEach(List<Drafted> drafted, String leaseOwner) {
+
+        List<float[]> embeddings = new ArrayList<>(drafted.size());
+
+        for (Drafted item : drafted) {
+            try {
+                embeddings.add(aiSummaryService.embedAll(List.of(item.draft().embeddingText())).getFirst());
+            } catch (Exception e) {
+                fail(item.job(), leaseOwner, e);
+                embeddings.add(null);
+            }
+        }
+
+        return embeddings;
+    }
+
+    private void complete(SummaryJob job, String leaseOwner, String outcome) {
+
+        meterRegistry.counter("ai_summary.jobs.completed", "outcome", outcome).increment();
+
+        // only delete if no newer save re-requested the job while it was running
+        DeleteResult deleted = mongoTemplate.remove(
+                Query.query(Criteria.where("_id").is(job.getId())
+                        .and("leaseOwner").is(leaseOwner)
+                        .and("requestedAt").is(job.getRequestedAt())),
+                SummaryJob.class
+        );
+
+        if (deleted.getDeletedCount() == 0) {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(job.getId()).and("leaseOwner").is(leaseOwner)),
+                    new Update()
+                            .set("status", SummaryJob.Status.PENDING)
+                            .set("firstRequestedAt", Instant.now())
+                            .unset("leaseOwner")
+                            .unset("leaseUntil"),
+                    SummaryJob.class
+            );
+            logger.debug("AI summary job re-requested while running, left pending for email: {}",
+                job.getUserEmail());
+        }
+    }
+
+    private void fail(SummaryJob job, String leaseOwner, Exception error) {
+
+        int attempts = job.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+
+        meterRegistry.counter("ai_summary.jobs.completed", "outcome", exhausted ? "failed" : "retried").increment();
+
+        Update update = new Update()
+                .set("attempts", attempts)
+                .set("lastError", error.getMessage())
+                .unset("leaseOwner")
+                .unset("leaseUntil");
+
+        if (exhausted) {
+            update.set("status", SummaryJob.Status.FAILED);
+            logger.error("AI summary job failed permanently for email: {} - Attempts: {} - Error: {}",
+                job.getUserEmail(), attempts, error.getMessage());
+        } else {
+            long backoffSeconds = Math.min(600, 15L << (attempts - 1));
+            update.set("status", SummaryJob.Status.PENDING)
+                    .set("runAfter", Instant.now().plusSeconds(backoffSeconds));
+            logger.warn("AI summary job failed for email: {} - Attempt: {} - Retrying in {}s - Error: {}",
+                job.getUserEmail(), attempts, backoffSeconds, error.getMessage());
+        }
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(job.getId()).and("leaseOwner").is(leaseOwner)),
+                update,
+                SummaryJob.class
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdown();
+        executor.shutdown();
+    }
+
+    private record Drafted(SummaryJob job, Portfolio portfolio, String summaryHash, SummaryDraft draft) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.saiteja.portfolio_backend.service.ai;
+
+import com.saiteja.portfolio_backend.config.ChatResilienceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-window circuit breaker for {@link ResilientChatModel}. Opens when the failure rate over
+ * the last {@code windowSize} calls reaches the threshold (after at least {@code minimumCalls}).
+ * After {@code openDuration} one probe call is let through; its outcome closes the circuit or
+ * opens it again.
+ *
+ * <p>Every admitted call holds a {@link Permit} tagged with the breaker's generation, which
+ * changes on every state transition. An outcome only counts for the generation it was admitted
+ * in, so a slow call left over from before the circuit opened can neither close nor re-open it,
+ * and only the call holding the probe can settle or abandon the half-open state.
+ */
+final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    record Permit(long generation, boolean probe) {
+    }
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CircuitBreaker(String name, ChatResilienceProperties.CircuitBreaker settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, ChatResilienceProperties.CircuitBreaker settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.minimumCalls = settings.getMinimumCalls();
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openNanos = settings.getOpenDuration().toNanos();
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[Math.max(1, settings.getWindowSize())];
+    }
+
+    /**
+     * Returns the permit for an admitted call, or {@code null} when the call must be rejected.
+     */
+    synchronized Permit allowRequest() {
+
+        switch (state) {
+            case CLOSED -> {
+                return new Permit(generation, false);
+            }
+            case OPEN -> {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return null;
+                }
+                state = State.HALF_OPEN;
+                logger.info("Chat model '{}' circuit half-open, sending probe", name);
+                return probe();
+            }
+            default -> {
+                return probeInFlight ? null : probe();
+            }
+        }
+    }
+
+    synchronized void onSuccess(Permit permit) {
+
+        if (permit.generation() != generation) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN && permit.probe()) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(Permit permit) {
+
+        if (permit.generation() != generation) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN && permit.probe()) {
+            open();
+            return;
+        }
+
+        if (state == State.CLOSED) {
+            record(true);
+
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * The call ended without saying anything about the provider's health (rejected after
+     * admission, cancelled by the client). Frees the half-open slot if this call held the probe.
+     */
+    synchronized void abandon(Permit permit) {
+        if (permit.probe() && permit.generation() == generation && state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    // each probe gets its own generation, so a probe abandoned earlier can no longer settle the state
+    private Permit probe() {
+        generation++;
+        probeInFlight = true;
+        return new Permit(generation, true);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        generation++;
+        openedAt = nanoClock.getAsLong();
+        probeInFlight = false;
+        logger.warn("Chat model '{}' circuit opened - Failures: {}/{}", name, failures, recorded);
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        probeInFlight = false;
+        resetWindow();
+        logger.info("Chat model '{}' circuit closed", name);
+    }
+
+    private void record(boolean failure) {
+
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void resetWindow() {
+        Arrays.fill(outcomes, false);
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,297 @@
+package com.saiteja.portfolio_backend.service.ai;
+
+import com.saiteja.portfolio_backend.config.ChatResilienceProperties;
+import com.saiteja.portfolio_backend.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Failure isolation around a chat model: a per-model concurrency limit with a small bounded
+ * wait queue, a deadline per call, and a count-window circuit breaker that fails fast while
+ * the provider is unhealthy and lets a single probe through after the open period. Rejected
+ * or failed calls go to the fallback model when one is configured; otherwise callers get a
+ * {@link ServiceBusyException} (503) instead of holding a servlet thread. The fallback should
+ * be a {@code ResilientChatModel} itself so it is bounded the same way.
+ */
+public class ResilientChatModel implements ChatModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientChatModel.class);
+
+    private final String name;
+    private final ChatModel delegate;
+    private final ChatModel fallback;
+
+    private final int maxQueued;
+    private final Duration queueTimeout;
+    private final Duration callTimeout;
+    private final Duration streamIdleTimeout;
+
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final CircuitBreaker circuitBreaker;
+
+    // blocking calls run here so the caller can stop waiting at the deadline
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer callTimer;
+    private final Counter timeouts;
+    private final Counter fallbacks;
+
+    public ResilientChatModel(String name,
+                              ChatModel delegate,
+                              ChatModel fallback,
+                              ChatResilienceProperties properties,
+                              MeterRegistry meterRegistry) {
+
+        this.name = name;
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.maxQueued = properties.getMaxQueued();
+        this.queueTimeout = properties.getQueueTimeout();
+        this.callTimeout = properties.getCallTimeout();
+        this.streamIdleTimeout = properties.getStreamIdleTimeout();
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+        this.circuitBreaker = new CircuitBreaker(name, properties.getCircuitBreaker());
+        this.meterRegistry = meterRegistry;
+
+        this.callTimer = Timer.builder("ai.chat.duration")
+                .description("Chat model calls that were admitted")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        this.timeouts = Counter.builder("ai.chat.timeouts")
+                .description("Chat model calls that missed their deadline")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        this.fallbacks = Counter.builder("ai.chat.fallback")
+                .description("Chat model calls served by the fallback model")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        Gauge.builder("ai.chat.in_flight", inFlight, AtomicInteger::get)
+                .description("Chat model calls currently running")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        Gauge.builder("ai.chat.queued", queued, AtomicInteger::get)
+                .description("Chat model calls waiting for a free slot")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        Gauge.builder("ai.chat.circuit_open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("1 while the circuit breaker is open or half-open")
+                .tag("model", name)
+                .register(meterRegistry);
+
+        logger.info("Chat model '{}' wrapped - Max concurrent: {} - Max queued: {} - Timeout: {} - Fallback: {}",
+            name, properties.getMaxConcurrent(), maxQueued, callTimeout, fallback != null);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+
+        CircuitBreaker.Permit permit;
+        try {
+            permit = admit();
+        } catch (ServiceBusyException e) {
+            if (fallback == null) {
+                throw e;
+            }
+            fallbacks.increment();
+            return fallback.call(prompt);
+        }
+
+        try {
+            return callWithDeadline(prompt, permit);
+        } catch (RuntimeException e) {
+            if (fallback == null) {
+                throw e;
+            }
+            fallbacks.increment();
+            logger.warn("Chat model '{}' failed, using fallback - Error: {}", name, e.getMessage());
+            return fallback.call(prompt);
+        }
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+
+        return Flux.defer(() -> {
+
+            CircuitBreaker.Permit permit;
+            try {
+                permit = admit();
+            } catch (ServiceBusyException e) {
+                if (fallback == null) {
+                    return Flux.error(e);
+                }
+                fallbacks.increment();
+                return fallback.stream(prompt);
+            }
+
+            long startTime = System.nanoTime();
+            Flux<ChatResponse> responses;
+
+            try {
+                responses = delegate.stream(prompt);
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure(permit);
+                release();
+                return Flux.error(e);
+            }
+
+            return responses
+                    .timeout(streamIdleTimeout)
+                    .doOnComplete(() -> circuitBreaker.onSuccess(permit))
+                    .doOnError(error -> {
+                        if (error instanceof TimeoutException) {
+                            timeouts.increment();
+                        }
+                        circuitBreaker.onFailure(permit);
+                    })
+                    // a client that goes away says nothing about the provider's health
+                    .doOnCancel(() -> circuitBreaker.abandon(permit))
+                    .doFinally(signal -> {
+                        callTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                        release();
+                    });
+        });
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return delegate.getDefaultOptions();
+    }
+
+    public void shutdown() {
+        callExecutor.shutdownNow();
+        if (fallback instanceof ResilientChatModel resilientFallback) {
+            resilientFallback.shutdown();
+        }
+    }
+
+    private ChatResponse callWithDeadline(Prompt prompt, CircuitBreaker.Permit permit) {
+
+        long startTime = System.nanoTime();
+        Future<ChatResponse> future;
+
+        try {
+            // the permit follows the provider call, not the caller: a call abandoned at the
+            // deadline keeps its slot until it really returns, so the limit holds under timeouts
+            future = callExecutor.submit(() -> {
+                try {
+                    return delegate.call(prompt);
+                } finally {
+                    release();
+                }
+            });
+        } catch (RuntimeException e) {
+            circuitBreaker.abandon(permit);
+            release();
+            throw e;
+        }
+
+        try {
+            ChatResponse response = future.get(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess(permit);
+            return response;
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            circuitBreaker.onFailure(permit);
+            logger.warn("Chat model '{}' call timed out after {}ms", name, callTimeout.toMillis());
+            throw new ServiceBusyException("AI service timed out. Please retry shortly.");
+
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure(permit);
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Chat model call failed", e.getCause());
+
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.abandon(permit);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Chat model call interrupted", e);
+
+        } finally {
+            callTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private CircuitBreaker.Permit admit() {
+
+        CircuitBreaker.Permit permit = circuitBreaker.allowRequest();
+
+        if (permit == null) {
+            reject("circuit_open");
+            throw new ServiceBusyException("AI service is temporarily unavailable. Please retry shortly.");
+        }
+
+        if (permits.tryAcquire()) {
+            inFlight.incrementAndGet();
+            return permit;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            circuitBreaker.abandon(permit);
+            reject("queue_full");
+            throw new ServiceBusyException("AI service is busy. Please retry shortly.");
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        if (!acquired) {
+            circuitBreaker.abandon(permit);
+            reject("queue_timeout");
+            throw new ServiceBusyException("AI service is busy. Please retry shortly.");
+        }
+
+        inFlight.incrementAndGet();
+        return permit;
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        permits.release();
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("ai.chat.rejected", "model", name, "reason", reason).increment();
+        logger.warn("Chat model '{}' call rejected - Reason: {} - In flight: {} - Queued: {}",
+            name, reason, inFlight.get(), queued.get());
+    }
+}
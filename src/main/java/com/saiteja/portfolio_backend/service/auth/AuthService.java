@@ -6,11 +6,15 @@ import com.saiteja.portfolio_backend.exceptions.UserAlreadyExistsException;
 import com.saiteja.portfolio_backend.exceptions.UserNotFoundException;
 import com.saiteja.portfolio_backend.model.User;
 import com.saiteja.portfolio_backend.repository.UserRepository;
+import com.saiteja.portfolio_backend.security.TokenEpochRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,10 +24,12 @@ public class AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
     private final RegistrationService registrationService;
     private final EmailService emailService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final MongoTemplate mongoTemplate;
 
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
@@ -38,7 +44,8 @@ public class AuthService {
             throw new IllegalArgumentException("Invalid role selected");
         }
 
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        // the only user-existence check for the whole registration request
+        if (userRepository.existsByEmail(request.getEmail())) {
             logger.warn("User already exists for email: {}", request.getEmail());
             throw new UserAlreadyExistsException(
                     "User already exists. Please login."
@@ -85,15 +92,17 @@ public class AuthService {
                     return new UserNotFoundException("User not found");
                 });
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             logger.warn("Invalid password attempt for email: {}", request.getEmail());
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
         logger.debug("Password validation successful for email: {}", request.getEmail());
 
-        String accessToken = jwtService.generateAccessToken(user.getEmail(), user.getRole());
-        String refreshToken = jwtService.generateRefreshToken(user.getEmail());
+        rehashIfNeeded(user, request.getPassword());
+
+        String accessToken = jwtService.generateAccessToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user);
 
         long duration = System.currentTimeMillis() - startTime;
         logger.info("User login successful for email: {} - Role: {} - Duration: {}ms",
@@ -107,19 +116,42 @@ public class AuthService {
                 .build();
     }
 
+    private void rehashIfNeeded(User user, String rawPassword) {
+
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            // only the hash changes, and only if it is still the one just verified; saving the
+            // whole user could overwrite a concurrent tokenEpoch bump or password change
+            long updated = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(user.getId()).and("password").is(user.getPassword())),
+                    Update.update("password", passwordHashingService.encode(rawPassword)),
+                    User.class
+            ).getModifiedCount();
+
+            if (updated > 0) {
+                logger.info("Password hash re-encoded at calibrated cost for email: {}", user.getEmail());
+            } else {
+                logger.debug("Password changed concurrently, re-hash skipped for email: {}", user.getEmail());
+            }
+        } catch (Exception e) {
+            // the login already succeeded; the upgrade is retried on the next login
+            logger.warn("Password re-hash skipped for email: {} - Error: {}", user.getEmail(), e.getMessage());
+        }
+    }
+
     public AuthResponse refreshToken(RefreshTokenRequest request) {
 
         logger.debug("Token refresh requested");
 
         String refreshToken = request.getRefreshToken();
 
-        // Validate token signature + expiration
-        if (jwtService.isTokenExpired(refreshToken)) {
-            logger.warn("Refresh token has expired");
-            throw new InvalidCredentialsException("Refresh token expired");
-        }
+        // Validate token signature + expiration (throws ExpiredJwtException when expired)
+        VerifiedToken verified = jwtService.verify(refreshToken);
 
-        String email = jwtService.extractEmail(refreshToken);
+        String email = verified.getSubject();
         logger.debug("Extracting user from refresh token for email: {}", email);
 
         User user = userRepository.findByEmail(email)
@@ -128,15 +160,15 @@ public class AuthService {
                     return new UserNotFoundException("User not found");
                 });
 
+        if (verified.epochOrZero() < user.getTokenEpoch()) {
+            logger.warn("Revoked refresh token presented for email: {}", email);
+            throw new InvalidCredentialsException("Refresh token revoked");
+        }
+
         // Optional: rotate refresh token (recommended)
-        String newAccessToken = jwtService.generateAccessToken(
-                user.getEmail(),
-                user.getRole()
-        );
+        String newAccessToken = jwtService.generateAccessToken(user);
 
-        String newRefreshToken = jwtService.generateRefreshToken(
-                user.getEmail()
-        );
+        String newRefreshToken = jwtService.generateRefreshToken(user);
 
         logger.info("Token refreshed successfully for email: {}", email);
 
@@ -148,5 +180,15 @@ public class AuthService {
                 .build();
     }
 
+    public void logout(UserPrincipal principal) {
+
+        logger.info("Logout requested for email: {}", principal.getEmail());
+
+        // revokes every access and refresh token issued to the user so far
+        tokenEpochRegistry.bump(principal.getUserId());
+
+        logger.info("Logout successful for email: {}", principal.getEmail());
+    }
+
 
 }
@@ -0,0 +1,364 @@
+package com.saiteja.portfolio_backend.service.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.saiteja.portfolio_backend.model.EmailOutboxMessage;
+import com.saiteja.portfolio_backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the email outbox in batches through the Resend batch API. Messages are claimed
+ * with a lease so several instances can dispatch concurrently without double-sending,
+ * and failed batches are retried with exponential backoff and jitter. Messages past their
+ * {@code expiresAt} are never sent. Once a message is SENT or FAILED its body and expiry are
+ * cleared and it is kept for a week (the {@code sentAt} / {@code failedAt} TTL) as a delivery record.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private static final String FROM_ADDRESS = "onboarding@resend.dev";
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailOutboxRepository outboxRepository;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final String apiKey;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailOutboxDispatcher(MongoTemplate mongoTemplate,
+                                 EmailOutboxRepository outboxRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${resend.api.key}") String apiKey,
+                                 @Value("${resend.api.base-url:https://api.resend.com}") String baseUrl,
+                                 @Value("${email.outbox.batch-size:50}") int batchSize,
+                                 @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${email.outbox.lease-ms:60000}") long leaseMs,
+                                 @Value("${email.outbox.base-backoff-ms:2000}") long baseBackoffMs,
+                                 @Value("${email.outbox.max-backoff-ms:300000}") long maxBackoffMs) {
+
+        this.mongoTemplate = mongoTemplate;
+        this.outboxRepository = outboxRepository;
+        this.apiKey = apiKey;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+
+        // one pooled, keep-alive client for the lifetime of the application
+        this.connectionProvider = ConnectionProvider.builder("email-outbox")
+                .maxConnections(4)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofSeconds(10));
+
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        this.sent = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.retried = Counter.builder("email.outbox.retried").register(meterRegistry);
+        this.failed = Counter.builder("email.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-ms:1000}")
+    public void dispatch() {
+
+        if (apiKey == null || apiKey.isBlank()) {
+            return;
+        }
+
+        try {
+            expireStale();
+
+            List<EmailOutboxMessage> batch;
+            do {
+                batch = claimBatch();
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } while (batch.size() == batchSize);
+
+        } catch (Exception e) {
+            logger.error("Email outbox dispatch failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void expireStale() {
+
+        Instant now = Instant.now();
+
+        Criteria unowned = new Criteria().orOperator(
+                Criteria.where("status").is(EmailOutboxMessage.Status.PENDING),
+                Criteria.where("status").is(EmailOutboxMessage.Status.SENDING)
+                        .and("leaseUntil").lt(now)
+        );
+
+        long expired = mongoTemplate.updateMulti(
+                Query.query(unowned).addCriteria(Criteria.where("expiresAt").lte(now)),
+                terminal(EmailOutboxMessage.Status.FAILED).set("lastError", "expired"),
+                EmailOutboxMessage.class
+        ).getModifiedCount();
+
+        if (expired > 0) {
+            failed.increment(expired);
+            logger.warn("Expired {} undelivered outbox messages", expired);
+        }
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+
+        Instant now = Instant.now();
+        String leaseOwner = UUID.randomUUID().toString();
+
+        Criteria claimable = new Criteria().andOperator(
+                new Criteria().orOperator(
+                        Criteria.where("status").is(EmailOutboxMessage.Status.PENDING)
+                                .and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(EmailOutboxMessage.Status.SENDING)
+                                .and("leaseUntil").lt(now)
+                ),
+                new Criteria().orOperator(
+                        Criteria.where("expiresAt").is(null),
+                        Criteria.where("expiresAt").gt(now)
+                )
+        );
+
+        Query candidates = Query.query(claimable).limit(batchSize);
+        candidates.fields().include("_id");
+
+        List<String> ids = mongoTemplate.find(candidates, EmailOutboxMessage.class)
+                .stream()
+                .map(EmailOutboxMessage::getId)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // re-applying the claimable criteria makes the claim safe against other dispatchers
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids)).addCriteria(claimable),
+                new Update()
+                        .set("status", EmailOutboxMessage.Status.SENDING)
+                        .set("leaseOwner", leaseOwner)
+                        .set("leaseUntil", now.plus(leaseDuration)),
+                EmailOutboxMessage.class
+        );
+
+        List<EmailOutboxMessage> claimed = outboxRepository.findByLeaseOwner(leaseOwner);
+        logger.debug("Claimed {} outbox messages", claimed.size());
+        return claimed;
+    }
+
+    private void send(List<EmailOutboxMessage> claimed) {
+
+        long startTime = System.currentTimeMillis();
+        Instant now = Instant.now();
+
+        // a message can expire between the claim and the send; an expired OTP is never delivered
+        List<EmailOutboxMessage> batch = new ArrayList<>(claimed.size());
+        for (EmailOutboxMessage message : claimed) {
+            if (message.getExpiresAt() != null && !message.getExpiresAt().isAfter(now)) {
+                markRejected(message, "expired");
+            } else {
+                batch.add(message);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> body = batch.stream()
+                .map(message -> Map.<String, Object>of(
+                        "from", FROM_ADDRESS,
+                        "to", message.getToEmail(),
+                        "subject", message.getSubject(),
+                        "html", message.getHtml()
+                ))
+                .toList();
+
+        try {
+            // permissive: invalid entries are reported by index instead of failing the whole batch
+            JsonNode response = webClient.post()
+                    .uri("/emails/batch")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                    .header("x-batch-validation", "permissive")
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
+
+            Map<Integer, String> rejected = rejectedByIndex(response);
+            List<EmailOutboxMessage> delivered = new ArrayList<>(batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                String error = rejected.get(i);
+                if (error == null) {
+                    delivered.add(batch.get(i));
+                } else {
+                    markRejected(batch.get(i), error);
+                }
+            }
+
+            if (!delivered.isEmpty()) {
+                markSent(delivered);
+            }
+
+            long duration = System.currentTimeMillis() - startTime;
+            logger.info("Email batch delivered - Messages: {} - Rejected: {} - Duration: {}ms",
+                delivered.size(), rejected.size(), duration);
+
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            logger.warn("Email batch delivery failed - Messages: {} - Error: {} - Duration: {}ms",
+                batch.size(), e.getMessage(), duration);
+            scheduleRetry(batch, e.getMessage());
+        }
+    }
+
+    private static Map<Integer, String> rejectedByIndex(JsonNode response) {
+
+        Map<Integer, String> rejected = new HashMap<>();
+
+        if (response != null && response.path("errors").isArray()) {
+            for (JsonNode error : response.path("errors")) {
+                rejected.put(error.path("index").asInt(-1), error.path("message").asText("rejected"));
+            }
+        }
+
+        return rejected;
+    }
+
+    private void markSent(List<EmailOutboxMessage> batch) {
+
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(batch.stream().map(EmailOutboxMessage::getId).toList())),
+                terminal(EmailOutboxMessage.Status.SENT)
+                        .inc("attempts", 1)
+                        .unset("lastError"),
+                EmailOutboxMessage.class
+        );
+
+        sent.increment(batch.size());
+    }
+
+    // a rejected recipient will not become valid on retry; fail it alone
+    private void markRejected(EmailOutboxMessage message, String error) {
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(message.getId())),
+                terminal(EmailOutboxMessage.Status.FAILED)
+                        .inc("attempts", 1)
+                        .set("lastError", error),
+                EmailOutboxMessage.class
+        );
+
+        failed.increment();
+        logger.error("Email not delivered - To: {} - Error: {}", message.getToEmail(), error);
+    }
+
+    // the expiry TTL would otherwise purge the row as soon as the OTP lapses, dropping the delivery record
+    private static Update terminal(EmailOutboxMessage.Status status) {
+        return new Update()
+                .set("status", status)
+                .set(status == EmailOutboxMessage.Status.SENT ? "sentAt" : "failedAt", Instant.now())
+                .unset("html")
+                .unset("expiresAt")
+                .unset("leaseOwner")
+                .unset("leaseUntil");
+    }
+
+    private void scheduleRetry(List<EmailOutboxMessage> batch, String error) {
+
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmailOutboxMessage.class);
+
+        for (EmailOutboxMessage message : batch) {
+
+            int attempts = message.getAttempts() + 1;
+            Instant nextAttemptAt = now.plus(backoff(attempts));
+            boolean expiresFirst = message.getExpiresAt() != null && !nextAttemptAt.isBefore(message.getExpiresAt());
+
+            Update update;
+
+            if (attempts >= maxAttempts || expiresFirst) {
+                update = terminal(EmailOutboxMessage.Status.FAILED);
+                failed.increment();
+                logger.error("Email delivery abandoned after {} attempts - To: {} - Expired: {}",
+                    attempts, message.getToEmail(), expiresFirst);
+            } else {
+                update = new Update()
+                        .set("status", EmailOutboxMessage.Status.PENDING)
+                        .set("nextAttemptAt", nextAttemptAt)
+                        .unset("leaseOwner")
+                        .unset("leaseUntil");
+                retried.increment();
+            }
+
+            update.set("attempts", attempts).set("lastError", error);
+
+            bulk.updateOne(Query.query(Criteria.where("_id").is(message.getId())), update);
+        }
+
+        bulk.execute();
+    }
+
+    private Duration backoff(int attempts) {
+
+        // exponential backoff capped at maxBackoff, with "equal jitter" to spread retries
+        long exponential = baseBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(maxBackoff.toMillis(), exponential);
+        long half = capped / 2;
+
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+}
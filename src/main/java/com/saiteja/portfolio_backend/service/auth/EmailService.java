@@ -1,13 +1,14 @@
 package com.saiteja.portfolio_backend.service.auth;
 
+import com.saiteja.portfolio_backend.model.EmailOutboxMessage;
+import com.saiteja.portfolio_backend.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.util.Map;
+import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
@@ -15,16 +16,22 @@ public class EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
+    private final EmailOutboxRepository outboxRepository;
+
     @Value("${resend.api.key}")
     private String apiKey;
 
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("https://api.resend.com")
-            .build();
+    @Value("${otp.validity-ms:300000}")
+    private long otpValidityMs;
 
+    /**
+     * Queues the OTP email in the outbox; {@link EmailOutboxDispatcher} delivers it.
+     * Returns as soon as the outbox write is acknowledged. The message expires with the
+     * OTP, so it is never delivered late and the row is purged once the OTP is useless.
+     */
     public void sendOtp(String toEmail, String otp) {
 
-        logger.info("Sending OTP email to: {}", toEmail);
+        logger.info("Queueing OTP email to: {}", toEmail);
         long startTime = System.currentTimeMillis();
 
         if (apiKey == null || apiKey.isBlank()) {
@@ -32,33 +39,20 @@ public class EmailService {
             throw new RuntimeException("Email service API key not configured");
         }
 
-        logger.debug("API key is configured - proceeding with OTP send to: {}", toEmail);
-
-        Map<String, Object> body = Map.of(
-                "from", "onboarding@resend.dev",
-                "to", toEmail,
-                "subject", "Your OTP for Porthire",
-                "html", "<h3>Your OTP is: " + otp + "</h3>"
-        );
-
-        try {
-            webClient.post()
-                    .uri("/emails")
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            long duration = System.currentTimeMillis() - startTime;
-            logger.info("OTP email sent successfully to: {} - Duration: {}ms", toEmail, duration);
-
-        } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            logger.error("Failed to send OTP email to: {} - Error: {} - Duration: {}ms",
-                toEmail, e.getMessage(), duration, e);
-            throw new RuntimeException("Failed to send OTP email", e);
-        }
+        Instant now = Instant.now();
+
+        outboxRepository.save(EmailOutboxMessage.builder()
+                .toEmail(toEmail)
+                .subject("Your OTP for Porthire")
+                .html("<h3>Your OTP is: " + otp + "</h3>")
+                .status(EmailOutboxMessage.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .expiresAt(now.plusMillis(otpValidityMs))
+                .build());
+
+        long duration = System.currentTimeMillis() - startTime;
+        logger.info("OTP email queued for: {} - Duration: {}ms", toEmail, duration);
     }
 }
@@ -1,5 +1,7 @@
 package com.saiteja.portfolio_backend.service.auth;
 
+import com.saiteja.portfolio_backend.dto.VerifiedToken;
+import com.saiteja.portfolio_backend.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -8,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 
 @Service
@@ -15,31 +18,44 @@ public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    public static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+
     private final Key signingKey;
 
+    // JwtParser is immutable and thread-safe, so one instance is shared by all requests
+    private final JwtParser jwtParser;
+
     public JwtService(@Value("${jwt.secret}") String secret) {
         logger.debug("Initializing JWT service with signing key");
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    public String generateAccessToken(String email, String role) {
-        logger.debug("Generating access token for email: {} - Role: {}", email, role);
+    public String generateAccessToken(User user) {
+        String email = user.getEmail();
+        logger.debug("Generating access token for email: {} - Role: {}", email, user.getRole());
         String token = Jwts.builder()
                 .setSubject(email)
-                .claim("role", role)
+                .claim("userId", user.getId())
+                .claim("epoch", user.getTokenEpoch())
+                .claim("role", user.getRole())
                 .claim("type", "access")
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15))
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_TTL.toMillis()))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
         logger.debug("Access token generated successfully for email: {}", email);
         return token;
     }
 
-    public String generateRefreshToken(String email) {
+    public String generateRefreshToken(User user) {
+        String email = user.getEmail();
         logger.debug("Generating refresh token for email: {}", email);
         String token = Jwts.builder()
                 .setSubject(email)
+                .claim("epoch", user.getTokenEpoch())
                 .claim("type", "refresh")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24 * 7))
@@ -49,6 +65,27 @@ public class JwtService {
         return token;
     }
 
+    /**
+     * Parses and checks the token in one pass. The parser rejects a bad signature, a malformed
+     * token or a passed expiration with a {@link JwtException}, so a returned token is always
+     * valid and unexpired.
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        Number epoch = claims.get("epoch", Number.class);
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("userId", String.class),
+                epoch != null ? epoch.longValue() : null,
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+        logger.debug("Token verified for subject: {} - Type: {}", verified.getSubject(), verified.getType());
+        return verified;
+    }
+
     public String extractEmail(String token) {
         logger.trace("Extracting email from token");
         String email = extractAllClaims(token).getSubject();
@@ -75,7 +112,8 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, String email) {
-        boolean valid = extractEmail(token).equals(email) && !isTokenExpired(token);
+        VerifiedToken verified = verify(token);
+        boolean valid = email.equals(verified.getSubject());
         logger.debug("Token validation result for email: {} - Valid: {}", email, valid);
         return valid;
     }
@@ -83,9 +121,7 @@ public class JwtService {
     private Claims extractAllClaims(String token) {
         try {
             logger.trace("Parsing JWT token claims");
-            return Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
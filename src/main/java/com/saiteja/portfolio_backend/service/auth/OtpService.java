@@ -0,0 +1,105 @@
+package com.saiteja.portfolio_backend.service.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Generates registration OTPs and verifies them against an HMAC-SHA256 digest keyed by a
+ * server secret. The digest is bound to the email so a stored value cannot be replayed
+ * for another address.
+ *
+ * <p>The key ({@code OTP_SECRET}) must be set and must differ from the JWT signing key outside
+ * the dev profile, otherwise startup fails. In dev, a missing key is derived from the JWT
+ * secret with a domain label rather than reusing the raw key.
+ */
+@Service
+public class OtpService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OtpService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String DEV_KEY_LABEL = "otp-v1";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final SecretKeySpec key;
+
+    public OtpService(@Value("${otp.secret:}") String secret,
+                      @Value("${jwt.secret}") String jwtSecret,
+                      @Value("${spring.profiles.active:dev}") String activeProfile) {
+
+        boolean dev = "dev".equalsIgnoreCase(activeProfile);
+        boolean missing = secret == null || secret.isBlank();
+
+        if (!dev && (missing || secret.equals(jwtSecret))) {
+            throw new IllegalStateException("otp.secret (OTP_SECRET) must be set to a key separate from jwt.secret");
+        }
+
+        if (missing) {
+            logger.warn("OTP_SECRET not set - deriving the OTP key from the JWT secret (dev only)");
+            this.key = new SecretKeySpec(derive(jwtSecret), ALGORITHM);
+        } else {
+            logger.debug("Initializing OTP service with HMAC key");
+            this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        }
+    }
+
+    public String generate() {
+        return String.format("%06d", secureRandom.nextInt(1_000_000));
+    }
+
+    public String digest(String email, String otp) {
+        return Base64.getEncoder().encodeToString(hmac(email, otp));
+    }
+
+    public boolean verify(String email, String otp, String expectedDigest) {
+
+        if (otp == null || expectedDigest == null) {
+            return false;
+        }
+
+        byte[] expected;
+        try {
+            expected = Base64.getDecoder().decode(expectedDigest);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Stored OTP digest is not valid Base64 for email: {}", email);
+            return false;
+        }
+
+        return MessageDigest.isEqual(expected, hmac(email, otp));
+    }
+
+    // HMAC(jwtSecret, label): an OTP digest never reveals anything about the JWT signing key
+    private static byte[] derive(String jwtSecret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(DEV_KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    private byte[] hmac(String email, String otp) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(otp.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
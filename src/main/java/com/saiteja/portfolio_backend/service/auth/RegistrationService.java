@@ -9,12 +9,16 @@ import com.saiteja.portfolio_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Date;
-import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
@@ -23,40 +27,41 @@ public class RegistrationService {
     private static final Logger logger = LoggerFactory.getLogger(RegistrationService.class);
 
     private final PendingRegistrationRepository pendingRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserRepository userRepository;
+    private final OtpService otpService;
+    private final MongoTemplate mongoTemplate;
 
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
 
+    @Value("${otp.max-attempts:5}")
+    private int maxOtpAttempts;
+
+    @Value("${otp.validity-ms:300000}")
+    private long otpValidityMs;
+
     public String initiateRegistration(RegisterRequest request, String role) {
 
         logger.info("Registration initiated for email: {} - Role: {}", request.getEmail(), role);
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            logger.warn("Registration attempt for existing email: {}", request.getEmail());
-            throw new UserAlreadyExistsException(
-                    "User already exists. Please login."
-            );
-        }
-
-        String otp = String.format("%06d", new Random().nextInt(999999));
+        String otp = otpService.generate();
         logger.debug("OTP generated for email: {}", request.getEmail());
 
-        pendingRepo.deleteByEmail(request.getEmail());
-        logger.debug("Cleared any existing pending registrations for email: {}", request.getEmail());
-
-        PendingRegistration pending = PendingRegistration.builder()
-                .email(request.getEmail())
-                .role(role)
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .otpHash(passwordEncoder.encode(otp))
-                .expiryTime(new Date(System.currentTimeMillis() + 5 * 60 * 1000))
-                .build();
-
-        pendingRepo.save(pending);
-        logger.info("Pending registration created for email: {} - OTP expires in 5 minutes",
-            request.getEmail());
+        // one atomic upsert replaces any earlier pending registration for this email
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("email").is(request.getEmail())),
+                new Update()
+                        .set("role", role)
+                        .set("passwordHash", passwordHashingService.encode(request.getPassword()))
+                        .set("otpHash", otpService.digest(request.getEmail(), otp))
+                        .set("expiryTime", new Date(System.currentTimeMillis() + otpValidityMs))
+                        .set("attempts", 0),
+                PendingRegistration.class
+        );
+
+        logger.info("Pending registration created for email: {} - OTP expires in {}s",
+            request.getEmail(), otpValidityMs / 1000);
 
         return otp;
     }
@@ -65,11 +70,24 @@ public class RegistrationService {
 
         logger.info("OTP verification initiated for email: {}", email);
 
-        PendingRegistration pending = pendingRepo.findByEmail(email)
-                .orElseThrow(() -> {
-                    logger.error("No pending registration found for email: {}", email);
-                    return new RuntimeException("No registration found");
-                });
+        // count the attempt in the same round trip that loads the registration
+        PendingRegistration pending = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("email").is(email)),
+                new Update().inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                PendingRegistration.class
+        );
+
+        if (pending == null) {
+            logger.error("No pending registration found for email: {}", email);
+            throw new RuntimeException("No registration found");
+        }
+
+        if (pending.getAttempts() > maxOtpAttempts) {
+            logger.warn("OTP attempt limit reached for email: {} - Attempts: {}", email, pending.getAttempts());
+            pendingRepo.deleteByEmail(email);
+            throw new RuntimeException("Too many OTP attempts");
+        }
 
         if (pending.getExpiryTime().before(new Date())) {
             logger.warn("OTP expired for email: {} - Expiry time: {}", email, pending.getExpiryTime());
@@ -82,7 +100,7 @@ public class RegistrationService {
         if ("dev".equalsIgnoreCase(activeProfile) && "111111".equals(otp)) {
             logger.debug("Dev profile active - OTP validation skipped for email: {}", email);
         } else {
-            if (!passwordEncoder.matches(otp, pending.getOtpHash())) {
+            if (!otpService.verify(email, otp, pending.getOtpHash())) {
                 logger.warn("Invalid OTP provided for email: {}", email);
                 throw new RuntimeException("Invalid OTP");
             }
@@ -95,7 +113,13 @@ public class RegistrationService {
                 .role(pending.getRole())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            logger.warn("User created concurrently for email: {}", email);
+            pendingRepo.deleteByEmail(email);
+            throw new UserAlreadyExistsException("User already exists. Please login.");
+        }
         logger.debug("User account created for email: {} - Role: {}", email, pending.getRole());
 
         pendingRepo.deleteByEmail(email);
@@ -1,13 +1,13 @@
 package com.saiteja.portfolio_backend.service.recruiter;
 
+import com.saiteja.portfolio_backend.model.EmbeddingVectorConverters;
+import com.saiteja.portfolio_backend.service.EmbeddingCache;
 import com.saiteja.portfolio_backend.service.ai.CandidateRerankService;
 import com.saiteja.portfolio_backend.service.ai.QueryRewriteService;
 import lombok.RequiredArgsConstructor;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -21,7 +21,7 @@ public class RecruiterSearchService {
 
     private static final Logger logger = LoggerFactory.getLogger(RecruiterSearchService.class);
 
-    private final EmbeddingModel embeddingModel;
+    private final EmbeddingCache embeddingCache;
     private final MongoTemplate mongoTemplate;
     private final QueryRewriteService queryRewriteService;
     private final CandidateRerankService rerankService;
@@ -32,22 +32,14 @@ public class RecruiterSearchService {
 
         logger.info("Rewritten Query - {}", rewrittenQuery);
 
-        EmbeddingResponse response = embeddingModel.embedForResponse(List.of(rewrittenQuery));
+        float[] queryEmbedding = embeddingCache.embed(rewrittenQuery);
 
-        float[] queryEmbedding = response.getResults().getFirst().getOutput();
-
-        List<Double> embeddingList = new ArrayList<>(queryEmbedding.length);
-
-        for (float value : queryEmbedding) {
-            embeddingList.add((double) value);
-        }
-
-        logger.debug("Search embedding generated - Dimensions: {}", embeddingList.size());
+        logger.debug("Search embedding generated - Dimensions: {}", queryEmbedding.length);
 
         Document vectorSearch = new Document("$vectorSearch",
                 new Document("index", "vector_index")
                         .append("path", "embedding")
-                        .append("queryVector", embeddingList)
+                        .append("queryVector", EmbeddingVectorConverters.toBinary(queryEmbedding))
                         .append("numCandidates", 100)
                         .append("limit", 10)
         );
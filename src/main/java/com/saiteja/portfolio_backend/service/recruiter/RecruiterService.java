@@ -5,6 +5,7 @@ import com.saiteja.portfolio_backend.dto.UserSummaryResponse;
 import com.saiteja.portfolio_backend.exceptions.UserNotFoundException;
 import com.saiteja.portfolio_backend.model.Portfolio;
 import com.saiteja.portfolio_backend.model.User;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
 import com.saiteja.portfolio_backend.repository.PortfolioRepository;
 import com.saiteja.portfolio_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -61,23 +62,19 @@ public class RecruiterService {
                     List<String> skills = List.of();
                     String name = null;
 
-                    Map<String, Object> data = portfolio.getData();
+                    PortfolioData data = portfolio.getData();
 
                     if (data != null) {
 
-                        if (data.get("skills") instanceof List<?>) {
-                            skills = ((List<?>) data.get("skills"))
+                        if (data.getSkills() != null) {
+                            skills = data.getSkills()
                                     .stream()
-                                    .map(Object::toString)
-                                    .filter(s -> !s.isBlank())
+                                    .filter(s -> s != null && !s.isBlank())
                                     .toList();
                         }
 
-                        if (data.get("hero") instanceof Map<?, ?> heroMap) {
-                            Object nameObj = heroMap.get("name");
-                            if (nameObj != null) {
-                                name = nameObj.toString();
-                            }
+                        if (data.getHero() != null) {
+                            name = data.getHero().getName();
                         }
                     }
 
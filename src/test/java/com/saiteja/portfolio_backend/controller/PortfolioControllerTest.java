@@ -0,0 +1,199 @@
+package com.saiteja.portfolio_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiteja.portfolio_backend.dto.UserPrincipal;
+import com.saiteja.portfolio_backend.exceptions.GlobalExceptionHandler;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.service.PortfolioRevisionService;
+import com.saiteja.portfolio_backend.service.PortfolioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioControllerTest {
+
+	@Mock
+	private PortfolioService portfolioService;
+
+	@Mock
+	private PortfolioRevisionService revisionService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.standaloneSetup(new PortfolioController(portfolioService, revisionService))
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.build();
+
+		UserPrincipal principal = new UserPrincipal("user-1", "ada@example.com", "PROFESSIONAL");
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void legacyShapesAreKeptInExtras() throws Exception {
+
+		mockMvc.perform(post("/portfolio")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{
+								  "hero": {"name": "Ada", "roles": "Engineer"},
+								  "skills": [{"name": "Java", "level": 5}],
+								  "theme": {"accent": "#fff"}
+								}
+								"""))
+				.andExpect(status().isOk());
+
+		PortfolioData data = captureSaved(null);
+
+		assertThat(data.getHero().getName()).isEqualTo("Ada");
+		assertThat(data.getHero().getRoles()).isNull();
+		assertThat(data.getHero().getExtras()).containsEntry("roles", "Engineer");
+		assertThat(data.getSkills()).isNull();
+		assertThat(data.getExtras())
+				.containsEntry("skills", List.of(Map.of("name", "Java", "level", 5)))
+				.containsEntry("theme", Map.of("accent", "#fff"));
+	}
+
+	@Test
+	void legacyShapesSerializeBackUnchanged() throws Exception {
+
+		String body = """
+				{"hero":{"name":"Ada"},"skills":[{"name":"Java"}],"isPublished":true}""";
+
+		mockMvc.perform(post("/portfolio").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk());
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		assertThat(objectMapper.readTree(objectMapper.writeValueAsString(captureSaved(null))))
+				.isEqualTo(objectMapper.readTree(body));
+	}
+
+	@Test
+	void typedShapesBindToSchema() throws Exception {
+
+		mockMvc.perform(post("/portfolio")
+						.contentType(MediaType.APPLICATION_JSON)
+						.header("If-Match", "\"7\"")
+						.content("{\"skills\":[\"Java\",\"Mongo\"],\"activeTemplate\":\"dark\"}"))
+				.andExpect(status().isOk());
+
+		PortfolioData data = captureSaved(7L);
+
+		assertThat(data.getSkills()).containsExactly("Java", "Mongo");
+		assertThat(data.getActiveTemplate()).isEqualTo("dark");
+		assertThat(data.getExtras()).isEmpty();
+	}
+
+	@Test
+	void nonObjectBodyIsRejected() throws Exception {
+
+		mockMvc.perform(post("/portfolio").contentType(MediaType.APPLICATION_JSON).content("[1,2]"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getSendsTheVersionAsETag() throws Exception {
+
+		when(portfolioService.getPortfolio("ada@example.com")).thenReturn(portfolio(4L));
+
+		mockMvc.perform(get("/portfolio"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""));
+	}
+
+	@Test
+	void saveAndPatchSendTheNewVersionAsETag() throws Exception {
+
+		when(portfolioService.saveOrUpdatePortfolio(eq("ada@example.com"), eq("user-1"), any(), eq(4L)))
+				.thenReturn(portfolio(5L));
+		when(portfolioService.mergePatchPortfolio(eq("ada@example.com"), eq("user-1"), any()))
+				.thenReturn(portfolio(6L));
+
+		mockMvc.perform(post("/portfolio")
+						.contentType(MediaType.APPLICATION_JSON)
+						.header("If-Match", "\"4\"")
+						.content("{\"activeTemplate\":\"dark\"}"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"5\""));
+
+		mockMvc.perform(patch("/portfolio")
+						.contentType("application/merge-patch+json")
+						.content("{\"activeTemplate\":\"light\"}"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"6\""));
+	}
+
+	@Test
+	void staleIfMatchIsPreconditionFailed() throws Exception {
+
+		when(portfolioService.saveOrUpdatePortfolio(eq("ada@example.com"), eq("user-1"), any(), eq(3L)))
+				.thenThrow(new OptimisticLockingFailureException("expected version 3"));
+
+		mockMvc.perform(post("/portfolio")
+						.contentType(MediaType.APPLICATION_JSON)
+						.header("If-Match", "\"3\"")
+						.content("{\"activeTemplate\":\"dark\"}"))
+				.andExpect(status().isPreconditionFailed())
+				.andExpect(jsonPath("$.errorCode").value("PRECONDITION_FAILED"));
+	}
+
+	@Test
+	void conflictWithoutIfMatchStaysConflict() throws Exception {
+
+		when(portfolioService.saveOrUpdatePortfolio(eq("ada@example.com"), eq("user-1"), any(), isNull()))
+				.thenThrow(new OptimisticLockingFailureException("concurrent write"));
+
+		mockMvc.perform(post("/portfolio")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"activeTemplate\":\"dark\"}"))
+				.andExpect(status().isConflict());
+	}
+
+	private static Portfolio portfolio(long version) {
+		return Portfolio.builder().userEmail("ada@example.com").version(version).data(new PortfolioData()).build();
+	}
+
+	private PortfolioData captureSaved(Long expectedVersion) {
+
+		ArgumentCaptor<PortfolioData> captor = ArgumentCaptor.forClass(PortfolioData.class);
+		verify(portfolioService).saveOrUpdatePortfolio(
+				eq("ada@example.com"), eq("user-1"), captor.capture(), eq(expectedVersion));
+
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,197 @@
+package com.saiteja.portfolio_backend.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioDataConverters;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Races real writers against a real server: first-write upserts, If-Match (expected version)
+ * saves and field patches must keep one document per user and a version that counts every
+ * accepted write.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PortfolioRepositoryImplConcurrencyTest {
+
+	private static final int WRITERS = 16;
+
+	@Container
+	private static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	private static MongoClient client;
+	private static MongoTemplate mongoTemplate;
+
+	private PortfolioRepositoryImpl repository;
+
+	@BeforeAll
+	static void connect() {
+
+		client = MongoClients.create(mongo.getReplicaSetUrl());
+		SimpleMongoClientDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(client, "portfolio_test");
+
+		MongoCustomConversions conversions = new MongoCustomConversions(PortfolioDataConverters.all());
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+
+		mongoTemplate = new MongoTemplate(factory, converter);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		client.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate.dropCollection(Portfolio.class);
+		mongoTemplate.indexOps(Portfolio.class).ensureIndex(new Index("userEmail", Sort.Direction.ASC).unique());
+		repository = new PortfolioRepositoryImpl(mongoTemplate);
+	}
+
+	@Test
+	void concurrentFirstWritesCreateOneDocument() throws Exception {
+
+		List<Portfolio> results = race(i -> repository.upsertContent(
+				"ada@example.com", "user-1", data("template-" + i), "hash-" + i, null));
+
+		assertThat(results).hasSize(WRITERS).doesNotContainNull();
+		assertThat(mongoTemplate.count(new Query(), Portfolio.class)).isEqualTo(1);
+		assertThat(stored().getVersion()).isEqualTo((long) WRITERS);
+		assertThat(results).extracting(Portfolio::getVersion).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void ifMatchAcceptsOneWriterPerVersion() throws Exception {
+
+		long version = repository.upsertContent("ada@example.com", "user-1", data("initial"), "hash", null).getVersion();
+		AtomicInteger conflicts = new AtomicInteger();
+
+		List<Portfolio> results = race(i -> {
+			try {
+				return repository.upsertContent("ada@example.com", "user-1", data("template-" + i), "hash-" + i, version);
+			} catch (OptimisticLockingFailureException e) {
+				conflicts.incrementAndGet();
+				return null;
+			}
+		});
+
+		List<Portfolio> accepted = results.stream().filter(result -> result != null).toList();
+
+		assertThat(accepted).hasSize(1);
+		assertThat(conflicts).hasValue(WRITERS - 1);
+		assertThat(stored().getVersion()).isEqualTo(version + 1);
+		assertThat(stored().getData().getActiveTemplate()).isEqualTo(accepted.getFirst().getData().getActiveTemplate());
+	}
+
+	@Test
+	void staleIfMatchIsRejected() {
+
+		long version = repository.upsertContent("ada@example.com", "user-1", data("first"), "hash", null).getVersion();
+		repository.upsertContent("ada@example.com", "user-1", data("second"), "hash", version);
+
+		assertThatThrownBy(() ->
+						repository.upsertContent("ada@example.com", "user-1", data("third"), "hash", version))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+
+		assertThat(stored().getData().getActiveTemplate()).isEqualTo("second");
+	}
+
+	@Test
+	void concurrentFieldPatchesAllApply() throws Exception {
+
+		repository.upsertContent("ada@example.com", "user-1", data("initial"), "hash", null);
+
+		race(i -> repository.upsertFields("ada@example.com", "user-1", new Update().set("data.field" + i, i)));
+
+		Portfolio stored = stored();
+		assertThat(stored.getVersion()).isEqualTo(1L + WRITERS);
+		for (int i = 0; i < WRITERS; i++) {
+			assertThat(stored.getData().getExtras()).containsEntry("field" + i, i);
+		}
+		assertThat(stored.getData().getActiveTemplate()).isEqualTo("initial");
+	}
+
+	private Portfolio stored() {
+		return mongoTemplate.findOne(Query.query(Criteria.where("userEmail").is("ada@example.com")), Portfolio.class);
+	}
+
+	// starts every writer at once so they hit the server together
+	private List<Portfolio> race(Writer writer) throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<Portfolio>> futures = new ArrayList<>();
+
+			for (int i = 0; i < WRITERS; i++) {
+				int index = i;
+				Callable<Portfolio> task = () -> {
+					start.await();
+					return writer.write(index);
+				};
+				futures.add(executor.submit(task));
+			}
+
+			start.countDown();
+
+			List<Portfolio> results = new ArrayList<>();
+			for (Future<Portfolio> future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			return results;
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static PortfolioData data(String template) {
+		PortfolioData data = new PortfolioData();
+		data.setActiveTemplate(template);
+		return data;
+	}
+
+	@FunctionalInterface
+	private interface Writer {
+		Portfolio write(int index);
+	}
+}
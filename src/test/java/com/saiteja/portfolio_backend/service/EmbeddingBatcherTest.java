@@ -0,0 +1,89 @@
+package com.saiteja.portfolio_backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmbeddingBatcherTest {
+
+	private static final List<String> TEXTS = List.of("alpha", "bravo", "charlie", "delta");
+
+	private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+
+	private EmbeddingBatcher batcher;
+
+	@AfterEach
+	void tearDown() {
+		if (batcher != null) {
+			batcher.shutdown();
+		}
+	}
+
+	@Test
+	void resultsReturnedOutOfOrderGoToTheRightCaller() {
+
+		respond(texts -> {
+			List<Embedding> results = new ArrayList<>();
+			for (int i = texts.size() - 1; i >= 0; i--) {
+				results.add(new Embedding(vector(texts.get(i)), i));
+			}
+			return results;
+		});
+
+		assertThat(embed()).containsExactlyElementsOf(TEXTS.stream().map(EmbeddingBatcherTest::vector).toList());
+	}
+
+	@Test
+	void shortResponseFallsBackToOneCallPerInput() {
+
+		respond(texts -> {
+			List<Embedding> results = new ArrayList<>();
+			for (int i = 0; i < texts.size() - 1; i++) {
+				results.add(new Embedding(vector(texts.get(i)), i));
+			}
+			return results;
+		});
+		when(embeddingModel.embed(anyString())).thenAnswer(invocation -> vector(invocation.getArgument(0)));
+
+		assertThat(embed()).containsExactlyElementsOf(TEXTS.stream().map(EmbeddingBatcherTest::vector).toList());
+	}
+
+	@Test
+	void repeatedIndexFallsBackToOneCallPerInput() {
+
+		respond(texts -> texts.stream().map(text -> new Embedding(vector(text), 0)).toList());
+		when(embeddingModel.embed(anyString())).thenAnswer(invocation -> vector(invocation.getArgument(0)));
+
+		assertThat(embed()).containsExactlyElementsOf(TEXTS.stream().map(EmbeddingBatcherTest::vector).toList());
+	}
+
+	private List<float[]> embed() {
+		batcher = new EmbeddingBatcher(embeddingModel, new SimpleMeterRegistry(), 64, 200, 2, 64, 5_000);
+		return batcher.embed(TEXTS, Duration.ofMillis(200));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void respond(Function<List<String>, List<Embedding>> answer) {
+		when(embeddingModel.embedForResponse(anyList())).thenAnswer(invocation ->
+				new EmbeddingResponse(answer.apply((List<String>) invocation.getArgument(0))));
+	}
+
+	// each text gets a distinct vector, so a mix-up between callers shows
+	private static float[] vector(String text) {
+		return new float[]{text.length(), text.charAt(0)};
+	}
+}
@@ -0,0 +1,79 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonDiffTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"{}                                  | {}",
+			"{\"a\":1}                           | {\"a\":2}",
+			"{\"a\":1,\"b\":2}                   | {\"b\":2,\"c\":3}",
+			"{\"a\":{\"b\":{\"c\":1}}}           | {\"a\":{\"b\":{\"c\":1,\"d\":[1]}}}",
+			"{\"a\":[1,2,3,4,5]}                 | {\"a\":[1,2,9,4,5]}",
+			"{\"a\":[1,2,3,4,5]}                 | {\"a\":[1,2,4,5]}",
+			"{\"a\":[1,2,3]}                     | {\"a\":[1,2,2.5,3]}",
+			"{\"a\":[1,2,3]}                     | {\"a\":[]}",
+			"{\"a\":[]}                          | {\"a\":[{\"x\":1},{\"y\":2}]}",
+			"{\"a\":[{\"x\":1},{\"x\":2}]}       | {\"a\":[{\"x\":1},{\"x\":3,\"z\":null}]}",
+			"{\"a\":\"text\"}                    | {\"a\":{\"now\":\"object\"}}",
+			"{\"a\":[1]}                         | {\"a\":\"scalar\"}",
+			"{\"a/b\":1,\"c~d\":2}               | {\"a/b\":3,\"e~1f\":4}",
+			"{\"a.b\":1,\"$c\":2}                | {\"a.b\":5,\"$d\":6}",
+			"[1,2]                               | {\"root\":\"replaced\"}"
+	})
+	void applyingTheDiffReproducesTheTarget(String source, String target) throws Exception {
+
+		JsonNode from = json(source);
+		JsonNode to = json(target);
+
+		assertThat(JsonDiff.apply(from, JsonDiff.diff(from, to))).isEqualTo(to);
+	}
+
+	@Test
+	void identicalDocumentsGiveAnEmptyPatch() throws Exception {
+
+		JsonNode document = json("{\"a\":[1,{\"b\":2}],\"c\":\"d\"}");
+
+		assertThat(JsonDiff.diff(document, document.deepCopy())).isEmpty();
+	}
+
+	@Test
+	void applyDoesNotMutateTheSource() throws Exception {
+
+		JsonNode source = json("{\"a\":[1,2,3]}");
+		JsonDiff.apply(source, JsonDiff.diff(source, json("{\"a\":[3]}")));
+
+		assertThat(source).isEqualTo(json("{\"a\":[1,2,3]}"));
+	}
+
+	@Test
+	void insertIntoLongListIsOneOperation() throws Exception {
+
+		JsonNode patch = JsonDiff.diff(json("{\"a\":[1,2,3,4,5,6]}"), json("{\"a\":[1,2,3,99,4,5,6]}"));
+
+		assertThat(patch).hasSize(1);
+		assertThat(patch.get(0).get("op").asText()).isEqualTo("add");
+		assertThat(patch.get(0).get("path").asText()).isEqualTo("/a/3");
+	}
+
+	@Test
+	void pointerTokensAreEscaped() throws Exception {
+
+		JsonNode patch = JsonDiff.diff(json("{}"), json("{\"a/b~c\":1}"));
+
+		assertThat(patch.get(0).get("path").asText()).isEqualTo("/a~1b~0c");
+	}
+
+	private JsonNode json(String value) throws Exception {
+		return objectMapper.readTree(value);
+	}
+}
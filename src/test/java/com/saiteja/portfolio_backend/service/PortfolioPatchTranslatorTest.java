@@ -0,0 +1,209 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiteja.portfolio_backend.exceptions.InvalidPatchException;
+import com.saiteja.portfolio_backend.model.portfolio.Hero;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortfolioPatchTranslatorTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final PortfolioPatchTranslator translator = new PortfolioPatchTranslator(objectMapper);
+
+	@Test
+	void emptyMergePatchIsNoOp() throws Exception {
+		assertThat(translator.fromMergePatch(json("{}")).getUpdateObject()).isEmpty();
+	}
+
+	@Test
+	void emptyNestedObjectNeedsTheStoredDocument() throws Exception {
+
+		assertThat(translator.needsStoredDocument(json("{\"hero\":{}}"))).isTrue();
+		assertThat(translator.needsStoredDocument(json("{\"hero\":{\"intro\":{}}}"))).isTrue();
+		assertThat(translator.needsStoredDocument(json("{}"))).isFalse();
+		assertThat(translator.needsStoredDocument(json("{\"hero\":{\"name\":\"Ada\"},\"skills\":[{}]}"))).isFalse();
+
+		// the path-based translation never silently drops it
+		assertThatThrownBy(() -> translator.fromMergePatch(json("{\"hero\":{}}")))
+				.isInstanceOf(InvalidPatchException.class);
+	}
+
+	@Test
+	void emptyNestedObjectReplacesAbsentOrScalarTargetOnly() throws Exception {
+
+		assertThat(PortfolioPatchTranslator.merge(json("{\"keep\":1}"), json("{\"hero\":{}}")))
+				.isEqualTo(json("{\"keep\":1,\"hero\":{}}"));
+		assertThat(PortfolioPatchTranslator.merge(json("{\"hero\":\"legacy\"}"), json("{\"hero\":{}}")))
+				.isEqualTo(json("{\"hero\":{}}"));
+		assertThat(PortfolioPatchTranslator.merge(json("{\"hero\":{\"name\":\"Ada\"}}"), json("{\"hero\":{}}")))
+				.isEqualTo(json("{\"hero\":{\"name\":\"Ada\"}}"));
+	}
+
+	@Test
+	void mergeIntoAppliesEmptyObjects() throws Exception {
+
+		PortfolioData missing = translator.mergeInto(new PortfolioData(), json("{\"hero\":{}}"));
+		assertThat(missing.getHero()).isNotNull();
+
+		PortfolioData scalar = new PortfolioData();
+		scalar.putExtra("hero", "legacy");
+		PortfolioData replaced = translator.mergeInto(scalar, json("{\"hero\":{}}"));
+		assertThat(replaced.getHero()).isNotNull();
+		assertThat(replaced.getExtras()).doesNotContainKey("hero");
+
+		PortfolioData existing = new PortfolioData();
+		Hero hero = new Hero();
+		hero.setName("Ada");
+		existing.setHero(hero);
+		assertThat(translator.mergeInto(existing, json("{\"hero\":{}}")).getHero().getName()).isEqualTo("Ada");
+	}
+
+	@Test
+	void nullMemberUnsetsField() throws Exception {
+
+		Document update = translator.fromMergePatch(json("{\"hero\":{\"name\":null}}")).getUpdateObject();
+
+		assertThat(update.get("$unset", Document.class)).containsOnlyKeys("data.hero.name");
+		assertThat(update).doesNotContainKey("$set");
+	}
+
+	@Test
+	void nestedObjectsBecomeDottedPaths() throws Exception {
+
+		Document update = translator.fromMergePatch(
+				json("{\"hero\":{\"name\":\"Ada\",\"intro\":{\"headline\":\"Engineer\"}},\"activeTemplate\":\"dark\"}")
+		).getUpdateObject();
+
+		assertThat(update.get("$set", Document.class))
+				.containsEntry("data.hero.name", "Ada")
+				.containsEntry("data.hero.intro.headline", "Engineer")
+				.containsEntry("data.activeTemplate", "dark")
+				.doesNotContainKey("data.hero");
+	}
+
+	@Test
+	void arraysAreReplacedWhole() throws Exception {
+
+		Document update = translator.fromMergePatch(json("{\"skills\":[\"java\",\"mongo\"]}")).getUpdateObject();
+
+		assertThat(update.get("$set", Document.class)).containsEntry("data.skills", List.of("java", "mongo"));
+	}
+
+	@Test
+	void arrayElementsAreValuesNotPatches() throws Exception {
+
+		Document update = translator.fromMergePatch(
+				json("{\"projects\":[{\"title\":\"A\",\"link\":null}]}")
+		).getUpdateObject();
+
+		Map<String, Object> project = new HashMap<>();
+		project.put("title", "A");
+		project.put("link", null);
+
+		assertThat(update.get("$set", Document.class)).containsEntry("data.projects", List.of(project));
+	}
+
+	@Test
+	void rejectsOperatorAndDottedKeys() {
+		assertThatThrownBy(() -> translator.fromMergePatch(json("{\"$where\":1}")))
+				.isInstanceOf(InvalidPatchException.class);
+		assertThatThrownBy(() -> translator.fromMergePatch(json("{\"a.b\":1}")))
+				.isInstanceOf(InvalidPatchException.class);
+	}
+
+	@Test
+	void rejectsNonObjectMergePatch() {
+		assertThatThrownBy(() -> translator.fromMergePatch(json("[1]")))
+				.isInstanceOf(InvalidPatchException.class);
+	}
+
+	@Test
+	void mergeReplacesNonObjectTarget() throws Exception {
+
+		JsonNode merged = PortfolioPatchTranslator.merge(
+				json("{\"hero\":\"legacy\",\"keep\":1}"),
+				json("{\"hero\":{\"name\":\"Ada\",\"image\":null}}")
+		);
+
+		assertThat(merged).isEqualTo(json("{\"hero\":{\"name\":\"Ada\"},\"keep\":1}"));
+	}
+
+	@Test
+	void mergeFollowsRfc7396Examples() throws Exception {
+
+		JsonNode merged = PortfolioPatchTranslator.merge(
+				json("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"}}"),
+				json("{\"a\":\"z\",\"c\":{\"f\":null}}")
+		);
+
+		assertThat(merged).isEqualTo(json("{\"a\":\"z\",\"c\":{\"d\":\"e\"}}"));
+		assertThat(PortfolioPatchTranslator.merge(json("[1,2]"), json("{\"a\":\"b\"}")))
+				.isEqualTo(json("{\"a\":\"b\"}"));
+		assertThat(PortfolioPatchTranslator.merge(json("{\"a\":\"foo\"}"), json("{}")))
+				.isEqualTo(json("{\"a\":\"foo\"}"));
+	}
+
+	@Test
+	void mergeIntoKeepsUntouchedFields() throws Exception {
+
+		PortfolioData data = new PortfolioData();
+		data.setSkills(List.of("java"));
+		data.putExtra("hero", "legacy");
+
+		PortfolioData merged = translator.mergeInto(data, json("{\"hero\":{\"name\":\"Ada\"}}"));
+
+		Hero hero = merged.getHero();
+		assertThat(hero.getName()).isEqualTo("Ada");
+		assertThat(merged.getSkills()).containsExactly("java");
+		assertThat(merged.getExtras()).doesNotContainKey("hero");
+	}
+
+	@Test
+	void jsonPatchAppendsReplacesAndRemoves() throws Exception {
+
+		Document update = translator.fromJsonPatch(json("""
+				[
+				  {"op": "add", "path": "/skills/-", "value": "go"},
+				  {"op": "add", "path": "/skills/-", "value": "rust"},
+				  {"op": "replace", "path": "/hero/name", "value": "Ada"},
+				  {"op": "remove", "path": "/footer"}
+				]
+				""")).getUpdateObject();
+
+		// both appends collapse into one $push ... $each
+		assertThat(update.get("$push", Document.class)).containsOnlyKeys("data.skills");
+		assertThat(update.get("$set", Document.class)).containsEntry("data.hero.name", "Ada");
+		assertThat(update.get("$unset", Document.class)).containsOnlyKeys("data.footer");
+	}
+
+	@Test
+	void jsonPatchRejectsArrayElementRemoval() {
+		assertThatThrownBy(() -> translator.fromJsonPatch(json("[{\"op\":\"remove\",\"path\":\"/skills/0\"}]")))
+				.isInstanceOf(InvalidPatchException.class);
+	}
+
+	@Test
+	void jsonPatchRejectsConflictingPaths() {
+		assertThatThrownBy(() -> translator.fromJsonPatch(json("""
+				[
+				  {"op": "add", "path": "/skills/-", "value": "go"},
+				  {"op": "replace", "path": "/skills/0", "value": "java"}
+				]
+				""")))
+				.isInstanceOf(InvalidPatchException.class);
+	}
+
+	private JsonNode json(String value) throws Exception {
+		return objectMapper.readTree(value);
+	}
+}
@@ -0,0 +1,156 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saiteja.portfolio_backend.model.Portfolio;
+import com.saiteja.portfolio_backend.model.PortfolioRevision;
+import com.saiteja.portfolio_backend.model.portfolio.PortfolioData;
+import com.saiteja.portfolio_backend.repository.PortfolioRevisionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortfolioRevisionServiceTest {
+
+	private static final String EMAIL = "ada@example.com";
+	private static final int SNAPSHOT_INTERVAL = 3;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// in-memory stand-in for portfolio_revisions, keyed by version
+	private final TreeMap<Long, PortfolioRevision> stored = new TreeMap<>();
+
+	private PortfolioRevisionRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		repository = mock(PortfolioRevisionRepository.class);
+
+		when(repository.insert(any(PortfolioRevision.class))).thenAnswer(invocation -> {
+			PortfolioRevision revision = invocation.getArgument(0);
+			if (stored.putIfAbsent(revision.getVersion(), revision) != null) {
+				throw new DuplicateKeyException("duplicate version " + revision.getVersion());
+			}
+			return revision;
+		});
+
+		when(repository.findByUserEmailAndVersion(anyString(), anyLong()))
+				.thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<Long>getArgument(1))));
+
+		when(repository.findFirstByUserEmailAndVersionLessThanOrderByVersionDesc(anyString(), anyLong()))
+				.thenAnswer(invocation -> Optional.ofNullable(stored.lowerEntry(invocation.<Long>getArgument(1)))
+						.map(Map.Entry::getValue));
+
+		when(repository.findByUserEmailAndVersionLessThanEqualOrderByVersionDesc(anyString(), anyLong(), any(Pageable.class)))
+				.thenAnswer(invocation -> stored.headMap(invocation.<Long>getArgument(1), true)
+						.descendingMap()
+						.values()
+						.stream()
+						.limit(invocation.<Pageable>getArgument(2).getPageSize())
+						.toList());
+	}
+
+	@Test
+	void replaysEveryVersionAcrossSnapshotBoundaries() {
+
+		PortfolioRevisionService writer = service();
+		Map<Long, JsonNode> expected = new TreeMap<>();
+
+		for (long version = 1; version <= 8; version++) {
+			PortfolioData data = data("template-" + version, List.of("java", "skill-" + version));
+			writer.record(portfolio(version, data));
+			expected.put(version, objectMapper.valueToTree(data));
+		}
+
+		assertThat(stored.values()).filteredOn(PortfolioRevision::isSnapshot)
+				.extracting(PortfolioRevision::getVersion)
+				.containsExactly(1L, 4L, 7L);
+
+		// a fresh instance has no cached head, so every read replays from storage
+		PortfolioRevisionService reader = service();
+		expected.forEach((version, state) ->
+				assertThat(reader.materialize(EMAIL, version)).as("version %d", version).isEqualTo(state));
+	}
+
+	@Test
+	void unchangedDataStillRecordsTheVersion() {
+
+		PortfolioRevisionService service = service();
+		PortfolioData data = data("dark", List.of("java"));
+
+		service.record(portfolio(1, data));
+		service.record(portfolio(2, data));
+
+		assertThat(stored).containsKey(2L);
+		assertThat(stored.get(2L).getPatch()).isEqualTo("[]");
+		assertThat(stored.get(2L).getBaseVersion()).isEqualTo(1L);
+		assertThat(service().materialize(EMAIL, 2)).isEqualTo(objectMapper.valueToTree(data));
+	}
+
+	@Test
+	void keysMongoCannotStoreAsFieldNamesRoundTrip() {
+
+		PortfolioData data = data("dark", List.of("java"));
+		data.putExtra("links.github", "https://github.com/ada");
+		data.putExtra("$schema", "v2");
+
+		PortfolioData changed = data("dark", List.of("java"));
+		changed.putExtra("links.github", "https://github.com/ada-l");
+		changed.putExtra("$schema", "v2");
+
+		PortfolioRevisionService service = service();
+		service.record(portfolio(1, data));
+		service.record(portfolio(2, changed));
+
+		PortfolioRevisionService reader = service();
+		assertThat(reader.materialize(EMAIL, 1)).isEqualTo(objectMapper.valueToTree(data));
+		assertThat(reader.materialize(EMAIL, 2)).isEqualTo(objectMapper.valueToTree(changed));
+	}
+
+	@Test
+	void revisionsRecordedOutOfOrderStillMaterialize() {
+
+		PortfolioRevisionService service = service();
+		PortfolioData first = data("one", List.of());
+		PortfolioData second = data("two", List.of("go"));
+		PortfolioData third = data("three", List.of("go", "rust"));
+
+		service.record(portfolio(1, first));
+		service.record(portfolio(3, third));
+		service.record(portfolio(2, second));
+
+		PortfolioRevisionService reader = service();
+		assertThat(reader.materialize(EMAIL, 2)).isEqualTo(objectMapper.valueToTree(second));
+		assertThat(reader.materialize(EMAIL, 3)).isEqualTo(objectMapper.valueToTree(third));
+	}
+
+	private PortfolioRevisionService service() {
+		return new PortfolioRevisionService(repository, objectMapper, new SimpleMeterRegistry(), SNAPSHOT_INTERVAL, 100);
+	}
+
+	private static Portfolio portfolio(long version, PortfolioData data) {
+		return Portfolio.builder().userEmail(EMAIL).version(version).data(data).build();
+	}
+
+	private static PortfolioData data(String template, List<String> skills) {
+		PortfolioData data = new PortfolioData();
+		data.setActiveTemplate(template);
+		data.setSkills(skills);
+		return data;
+	}
+}
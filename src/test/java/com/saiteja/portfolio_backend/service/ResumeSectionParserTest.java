@@ -0,0 +1,155 @@
+package com.saiteja.portfolio_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeSectionParserTest {
+
+	private static final String RESUME = """
+			{"hero":{"name":"Ada Lovelace","roles":["Engineer","Writer"],"intro":{"desc":[""],"text":"Hi"}},\
+			"skills":["Java","Mongo"],\
+			"experience":[{"company":"Analytical","description":["one","two"]},{"company":"Engine","description":[]}],\
+			"activeTemplate":"medium","isPublished":false,"slug":"","codingProfiles":[]}""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<String> sections = new ArrayList<>();
+
+	@Test
+	void wholeObjectInOneChunk() throws IOException {
+
+		ResumeSectionParser parser = parser();
+		parser.feed(RESUME);
+
+		assertThat(parser.finish()).isEqualTo(expected());
+		assertThat(sections).containsExactly(
+				"hero", "skills", "experience", "activeTemplate", "isPublished", "slug", "codingProfiles");
+	}
+
+	@Test
+	void everySplitPointGivesTheSameResult() throws IOException {
+
+		for (int split = 1; split < RESUME.length(); split++) {
+			sections.clear();
+			ResumeSectionParser parser = parser();
+
+			parser.feed(RESUME.substring(0, split));
+			parser.feed(RESUME.substring(split));
+
+			assertThat(parser.finish()).as("split at %d", split).isEqualTo(expected());
+			assertThat(sections).as("split at %d", split).hasSize(7);
+		}
+	}
+
+	@Test
+	void singleCharacterChunks() throws IOException {
+
+		ResumeSectionParser parser = parser();
+		for (char c : RESUME.toCharArray()) {
+			parser.feed(String.valueOf(c));
+		}
+
+		assertThat(parser.finish()).isEqualTo(expected());
+	}
+
+	@Test
+	void sectionsArriveAsSoonAsTheyAreComplete() throws IOException {
+
+		ResumeSectionParser parser = parser();
+
+		parser.feed("{\"skills\":[\"Java\"],\"hero\":{\"na");
+		assertThat(sections).containsExactly("skills");
+
+		parser.feed("me\":\"Ada\"},\"slug\":\"");
+		assertThat(sections).containsExactly("skills", "hero");
+
+		parser.feed("\"}");
+		assertThat(sections).containsExactly("skills", "hero", "slug");
+	}
+
+	@Test
+	void markdownFenceBeforeAndAfterIsIgnored() throws IOException {
+
+		ResumeSectionParser parser = parser();
+
+		parser.feed("Here is the portfolio:\n```js");
+		parser.feed("on\n" + RESUME.substring(0, 10));
+		parser.feed(RESUME.substring(10) + "\n``");
+		parser.feed("`\nLet me know if you need changes {\"not\":\"parsed\"}");
+
+		assertThat(parser.finish()).isEqualTo(expected());
+	}
+
+	@Test
+	void nestedObjectsAndArraysAreDeliveredWhole() throws IOException {
+
+		List<Object> values = new ArrayList<>();
+		ResumeSectionParser parser = new ResumeSectionParser(objectMapper, (name, value) -> values.add(value));
+
+		parser.feed("{\"a\":{\"b\":[{\"c\":[1,[2,3]]},{}]},\"d\":[[],[{}]],\"e\":null,\"f\":1.5}");
+		parser.finish();
+
+		assertThat(values).containsExactly(
+				Map.of("b", List.of(Map.of("c", List.of(1, List.of(2, 3))), Map.of())),
+				List.of(List.of(), List.of(Map.of())),
+				null,
+				1.5);
+	}
+
+	@Test
+	void surrogatePairSplitAcrossChunks() throws IOException {
+
+		String json = "{\"name\":\"Ada 🚀\"}";
+		int split = json.indexOf('\uDE80');
+
+		ResumeSectionParser parser = parser();
+		parser.feed(json.substring(0, split));
+		parser.feed(json.substring(split));
+
+		assertThat(parser.finish()).containsEntry("name", "Ada 🚀");
+	}
+
+	@Test
+	void finishFailsOnTruncatedStream() throws IOException {
+
+		ResumeSectionParser parser = parser();
+		parser.feed(RESUME.substring(0, RESUME.length() / 2));
+
+		assertThatThrownBy(parser::finish).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void finishFailsWhenNoObjectArrived() throws IOException {
+
+		ResumeSectionParser parser = parser();
+		parser.feed("Sorry, I cannot help with that.");
+
+		assertThatThrownBy(parser::finish).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void finishFailsOnMissingClosingBrace() throws IOException {
+
+		ResumeSectionParser parser = parser();
+		parser.feed("{\"skills\":[\"Java\"]");
+
+		assertThat(sections).containsExactly("skills");
+		assertThatThrownBy(parser::finish).isInstanceOf(IOException.class);
+	}
+
+	private ResumeSectionParser parser() throws IOException {
+		return new ResumeSectionParser(objectMapper, (name, value) -> sections.add(name));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> expected() throws IOException {
+		return objectMapper.readValue(RESUME, Map.class);
+	}
+}
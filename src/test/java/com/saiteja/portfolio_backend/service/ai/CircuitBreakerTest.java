@@ -0,0 +1,180 @@
+package com.saiteja.portfolio_backend.service.ai;
+
+import com.saiteja.portfolio_backend.config.ChatResilienceProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+	private static final long OPEN_NANOS = Duration.ofSeconds(30).toNanos();
+
+	private long now;
+	private final CircuitBreaker breaker = new CircuitBreaker("test", settings(), () -> now);
+
+	@Test
+	void staysClosedBelowMinimumCalls() {
+
+		for (int i = 0; i < 3; i++) {
+			breaker.onFailure(breaker.allowRequest());
+		}
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void opensAtFailureRateAndRejectsUntilOpenDurationPasses() {
+
+		open();
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.allowRequest()).isNull();
+
+		now += OPEN_NANOS - 1;
+		assertThat(breaker.allowRequest()).isNull();
+	}
+
+	@Test
+	void successfulProbeCloses() {
+
+		open();
+		CircuitBreaker.Permit probe = probe();
+
+		assertThat(probe.probe()).isTrue();
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.allowRequest()).as("only one probe at a time").isNull();
+
+		breaker.onSuccess(probe);
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.allowRequest()).isNotNull();
+	}
+
+	@Test
+	void failedProbeReopens() {
+
+		open();
+		CircuitBreaker.Permit probe = probe();
+
+		breaker.onFailure(probe);
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.allowRequest()).isNull();
+	}
+
+	@Test
+	void callAdmittedBeforeOpeningCannotCloseTheHalfOpenCircuit() {
+
+		CircuitBreaker.Permit slow = breaker.allowRequest();
+		open();
+		probe();
+
+		breaker.onSuccess(slow);
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+	}
+
+	@Test
+	void callAdmittedBeforeOpeningCannotReopenTheHalfOpenCircuit() {
+
+		CircuitBreaker.Permit slow = breaker.allowRequest();
+		open();
+		CircuitBreaker.Permit probe = probe();
+
+		breaker.onFailure(slow);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		breaker.onSuccess(probe);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void onlyTheProbeHolderCanAbandonTheProbe() {
+
+		CircuitBreaker.Permit slow = breaker.allowRequest();
+		open();
+		CircuitBreaker.Permit probe = probe();
+
+		breaker.abandon(slow);
+		assertThat(breaker.allowRequest()).as("probe still running").isNull();
+
+		breaker.abandon(probe);
+		CircuitBreaker.Permit nextProbe = breaker.allowRequest();
+		assertThat(nextProbe).isNotNull();
+		assertThat(nextProbe.probe()).isTrue();
+	}
+
+	@Test
+	void abandonedProbeCannotSettleTheStateLater() {
+
+		open();
+		CircuitBreaker.Permit abandoned = probe();
+		breaker.abandon(abandoned);
+		CircuitBreaker.Permit current = breaker.allowRequest();
+
+		breaker.onSuccess(abandoned);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		breaker.onFailure(current);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void outcomesFromBeforeAClosedCycleDoNotCountInTheNewWindow() {
+
+		List<CircuitBreaker.Permit> stale = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			stale.add(breaker.allowRequest());
+		}
+
+		open();
+		breaker.onSuccess(probe());
+
+		stale.forEach(breaker::onFailure);
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void windowSlidesOverOldOutcomes() {
+
+		for (int i = 0; i < 10; i++) {
+			breaker.onSuccess(breaker.allowRequest());
+		}
+		// window of 10: five failures push the rate to 50%
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(breaker.allowRequest());
+		}
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+		breaker.onFailure(breaker.allowRequest());
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	private void open() {
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(breaker.allowRequest());
+		}
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	private CircuitBreaker.Permit probe() {
+		now += OPEN_NANOS;
+		CircuitBreaker.Permit probe = breaker.allowRequest();
+		assertThat(probe).isNotNull();
+		return probe;
+	}
+
+	private static ChatResilienceProperties.CircuitBreaker settings() {
+		ChatResilienceProperties.CircuitBreaker settings = new ChatResilienceProperties.CircuitBreaker();
+		settings.setWindowSize(10);
+		settings.setMinimumCalls(4);
+		settings.setFailureRateThreshold(0.5);
+		settings.setOpenDuration(Duration.ofSeconds(30));
+		return settings;
+	}
+}
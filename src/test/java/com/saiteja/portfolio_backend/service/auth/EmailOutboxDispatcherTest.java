@@ -0,0 +1,209 @@
+package com.saiteja.portfolio_backend.service.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.saiteja.portfolio_backend.model.EmailOutboxMessage;
+import com.saiteja.portfolio_backend.repository.EmailOutboxRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dispatcher against a real Mongo and a local HTTP server standing in for the
+ * Resend batch API (behind {@code resend.api.base-url}).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxDispatcherTest {
+
+	private static final String API_KEY = "re_test";
+
+	@Container
+	private static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	private static MongoClient client;
+	private static MongoTemplate mongoTemplate;
+	private static EmailOutboxRepository outboxRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+	private HttpServer server;
+	private volatile int responseStatus;
+	private volatile String responseBody;
+
+	private EmailOutboxDispatcher dispatcher;
+
+	@BeforeAll
+	static void connect() {
+		client = MongoClients.create(mongo.getReplicaSetUrl());
+		mongoTemplate = new MongoTemplate(client, "outbox_test");
+		outboxRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(EmailOutboxRepository.class);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		client.close();
+	}
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		mongoTemplate.dropCollection(EmailOutboxMessage.class);
+
+		respond(200, "{\"data\":[]}");
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/emails/batch", exchange -> {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			requests.add(new Request(
+					exchange.getRequestHeaders().getFirst("Authorization"),
+					exchange.getRequestHeaders().getFirst("x-batch-validation"),
+					objectMapper.readTree(body)));
+
+			byte[] response = responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(responseStatus, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		server.start();
+
+		dispatcher = new EmailOutboxDispatcher(
+				mongoTemplate, outboxRepository, new SimpleMeterRegistry(),
+				API_KEY, "http://127.0.0.1:" + server.getAddress().getPort(),
+				50, 8, 60_000, 2_000, 300_000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void deliveredMessagesKeepTheirRecordAfterTheOtpExpires() {
+
+		EmailOutboxMessage message = enqueue("ada@example.com", Instant.now().plusSeconds(300));
+
+		dispatcher.dispatch();
+
+		assertThat(requests).hasSize(1);
+		Request request = requests.getFirst();
+		assertThat(request.authorization()).isEqualTo("Bearer " + API_KEY);
+		assertThat(request.batchValidation()).isEqualTo("permissive");
+		assertThat(request.body()).hasSize(1);
+		assertThat(request.body().get(0).get("to").asText()).isEqualTo("ada@example.com");
+		assertThat(request.body().get(0).get("html").asText()).contains("123456");
+
+		EmailOutboxMessage stored = reload(message);
+		assertThat(stored.getStatus()).isEqualTo(EmailOutboxMessage.Status.SENT);
+		assertThat(stored.getAttempts()).isEqualTo(1);
+		assertThat(stored.getSentAt()).isNotNull();
+		assertThat(stored.getExpiresAt()).isNull();
+		assertThat(stored.getHtml()).isNull();
+		assertThat(stored.getLeaseOwner()).isNull();
+	}
+
+	@Test
+	void rejectedRecipientFailsAlone() {
+
+		EmailOutboxMessage first = enqueue("ada@example.com", Instant.now().plusSeconds(300));
+		EmailOutboxMessage second = enqueue("not-an-address", Instant.now().plusSeconds(300));
+		respond(200, "{\"data\":[{\"id\":\"e-1\"}],\"errors\":[{\"index\":1,\"message\":\"Invalid `to` field\"}]}");
+
+		dispatcher.dispatch();
+
+		assertThat(requests).hasSize(1);
+		assertThat(reload(first).getStatus()).isEqualTo(EmailOutboxMessage.Status.SENT);
+
+		EmailOutboxMessage rejected = reload(second);
+		assertThat(rejected.getStatus()).isEqualTo(EmailOutboxMessage.Status.FAILED);
+		assertThat(rejected.getLastError()).isEqualTo("Invalid `to` field");
+		assertThat(rejected.getFailedAt()).isNotNull();
+		assertThat(rejected.getExpiresAt()).isNull();
+		assertThat(rejected.getHtml()).isNull();
+	}
+
+	@Test
+	void serverErrorSchedulesARetry() {
+
+		EmailOutboxMessage message = enqueue("ada@example.com", Instant.now().plusSeconds(300));
+		respond(500, "{\"message\":\"internal\"}");
+
+		Instant before = Instant.now();
+		dispatcher.dispatch();
+
+		EmailOutboxMessage stored = reload(message);
+		assertThat(stored.getStatus()).isEqualTo(EmailOutboxMessage.Status.PENDING);
+		assertThat(stored.getAttempts()).isEqualTo(1);
+		assertThat(stored.getNextAttemptAt()).isAfter(before);
+		assertThat(stored.getHtml()).isNotNull();
+		assertThat(stored.getExpiresAt()).isNotNull();
+		assertThat(stored.getLeaseOwner()).isNull();
+
+		// not due yet, so the next poll leaves it alone
+		dispatcher.dispatch();
+		assertThat(requests).hasSize(1);
+	}
+
+	@Test
+	void expiredMessageIsNeverSent() {
+
+		EmailOutboxMessage message = enqueue("ada@example.com", Instant.now().minusSeconds(1));
+
+		dispatcher.dispatch();
+
+		assertThat(requests).isEmpty();
+
+		EmailOutboxMessage stored = reload(message);
+		assertThat(stored.getStatus()).isEqualTo(EmailOutboxMessage.Status.FAILED);
+		assertThat(stored.getLastError()).isEqualTo("expired");
+		assertThat(stored.getHtml()).isNull();
+	}
+
+	private EmailOutboxMessage enqueue(String toEmail, Instant expiresAt) {
+		Instant now = Instant.now();
+		return outboxRepository.save(EmailOutboxMessage.builder()
+				.toEmail(toEmail)
+				.subject("Your OTP for Porthire")
+				.html("<h3>Your OTP is: 123456</h3>")
+				.status(EmailOutboxMessage.Status.PENDING)
+				.attempts(0)
+				.nextAttemptAt(now)
+				.createdAt(now)
+				.expiresAt(expiresAt)
+				.build());
+	}
+
+	private EmailOutboxMessage reload(EmailOutboxMessage message) {
+		return outboxRepository.findById(message.getId()).orElseThrow();
+	}
+
+	private void respond(int status, String body) {
+		this.responseStatus = status;
+		this.responseBody = body;
+	}
+
+	private record Request(String authorization, String batchValidation, JsonNode body) {
+	}
+}
@@ -0,0 +1,96 @@
+package com.saiteja.portfolio_backend.service.auth;
+
+import com.saiteja.portfolio_backend.dto.VerifiedToken;
+import com.saiteja.portfolio_backend.model.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+	private static final String SECRET = "test-secret-that-is-at-least-32-bytes-long";
+
+	private final JwtService jwtService = new JwtService(SECRET);
+
+	@Test
+	void validAccessTokenCarriesItsClaims() {
+
+		VerifiedToken verified = jwtService.verify(jwtService.generateAccessToken(user()));
+
+		assertThat(verified.getSubject()).isEqualTo("ada@example.com");
+		assertThat(verified.getUserId()).isEqualTo("user-1");
+		assertThat(verified.getEpoch()).isEqualTo(3L);
+		assertThat(verified.getRole()).isEqualTo("DEVELOPER");
+		assertThat(verified.getType()).isEqualTo("access");
+		assertThat(verified.hasIdentityClaims()).isTrue();
+		assertThat(verified.getExpiresAt()).isAfter(new Date());
+	}
+
+	@Test
+	void validRefreshTokenHasNoIdentityClaims() {
+
+		VerifiedToken verified = jwtService.verify(jwtService.generateRefreshToken(user()));
+
+		assertThat(verified.getSubject()).isEqualTo("ada@example.com");
+		assertThat(verified.getType()).isEqualTo("refresh");
+		assertThat(verified.epochOrZero()).isEqualTo(3L);
+		assertThat(verified.hasIdentityClaims()).isFalse();
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+
+		long now = System.currentTimeMillis();
+		String token = Jwts.builder()
+				.setSubject("ada@example.com")
+				.claim("type", "access")
+				.setIssuedAt(new Date(now - 120_000))
+				.setExpiration(new Date(now - 60_000))
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+				.compact();
+
+		assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(ExpiredJwtException.class);
+	}
+
+	@Test
+	void tokenSignedWithAnotherKeyIsRejected() {
+
+		String token = new JwtService("another-secret-that-is-at-least-32-bytes")
+				.generateAccessToken(user());
+
+		assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void tamperedPayloadIsRejected() {
+
+		String[] parts = jwtService.generateAccessToken(user()).split("\\.");
+		String forged = Jwts.builder()
+				.setSubject("admin@example.com")
+				.claim("role", "DEVELOPER")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(Keys.hmacShaKeyFor("another-secret-that-is-at-least-32-bytes".getBytes()), SignatureAlgorithm.HS256)
+				.compact()
+				.split("\\.")[1];
+
+		assertThatThrownBy(() -> jwtService.verify(parts[0] + "." + forged + "." + parts[2]))
+				.isInstanceOf(JwtException.class);
+	}
+
+	private static User user() {
+		return User.builder()
+				.id("user-1")
+				.email("ada@example.com")
+				.role("DEVELOPER")
+				.tokenEpoch(3)
+				.build();
+	}
+}